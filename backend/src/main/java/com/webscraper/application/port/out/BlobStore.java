@@ -0,0 +1,35 @@
+package com.webscraper.application.port.out;
+
+import com.webscraper.domain.valueobject.ContentHash;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for content-addressed storage of page bodies.
+ * Content is keyed by its hash, so identical content is stored once.
+ */
+public interface BlobStore {
+    
+    /**
+     * Store content under its hash. Content of one target shares markup,
+     * so implementations may compress it with a dictionary per target.
+     * @param targetId target the content was scraped for, or null
+     * @return false if a blob with this hash was already stored
+     */
+    default boolean put(ContentHash hash, String content, UUID targetId) {
+        return put(hash, content, targetId, null);
+    }
+    
+    /**
+     * Store content that is a revision of content already stored, usually the
+     * page's previous version. Implementations may store it as a delta
+     * against that base; reading it back still returns the full content.
+     * @param base hash of the earlier content, or null
+     */
+    boolean put(ContentHash hash, String content, UUID targetId, ContentHash base);
+    
+    Optional<String> get(ContentHash hash);
+    
+    boolean exists(ContentHash hash);
+}
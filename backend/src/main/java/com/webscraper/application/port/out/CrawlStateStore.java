@@ -0,0 +1,68 @@
+package com.webscraper.application.port.out;
+
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import com.webscraper.domain.valueobject.UrlHash;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Port for durable crawl progress (frontier, visited URLs, per-host cursors).
+ * Lets a restarted worker pick up an interrupted crawl where it stopped.
+ */
+public interface CrawlStateStore {
+
+    /**
+     * Algorithm for the frontier and visited keys. They are only compared within
+     * one crawl and never address stored pages, so the cheaper non-cryptographic
+     * hash is enough; a crafted collision can at worst skip a URL in that crawl.
+     */
+    HashAlgorithm URL_KEY_ALGORITHM = HashAlgorithm.MURMUR3_128;
+
+    /**
+     * Record a URL added to the crawl frontier.
+     */
+    void enqueued(UUID jobId, String url);
+
+    /**
+     * Record a URL as visited; it leaves the frontier.
+     * URLs are hashed by the store, with the same algorithm on both paths.
+     */
+    void visited(UUID jobId, String url);
+
+    /**
+     * Record the position reached for a host (e.g. pages dispatched so far).
+     */
+    void hostCursor(UUID jobId, String host, long cursor);
+
+    /**
+     * Force everything recorded so far to disk.
+     */
+    void checkpoint(UUID jobId);
+
+    /**
+     * Rebuild the state of a crawl; empty if nothing was recorded.
+     */
+    CrawlState load(UUID jobId);
+
+    /**
+     * Drop the state of a finished or cancelled crawl.
+     */
+    void discard(UUID jobId);
+
+    record CrawlState(
+        List<String> frontier,
+        Set<UrlHash> visited,
+        Map<String, Long> hostCursors
+    ) {
+        public boolean isEmpty() {
+            return frontier.isEmpty() && visited.isEmpty() && hostCursors.isEmpty();
+        }
+
+        public boolean isVisited(String url) {
+            return visited.contains(UrlHash.of(url, URL_KEY_ALGORITHM));
+        }
+    }
+}
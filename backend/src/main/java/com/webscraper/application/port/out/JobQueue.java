@@ -2,6 +2,8 @@ package com.webscraper.application.port.out;
 
 import com.webscraper.domain.entity.ScrapeJob;
 
+import java.time.Duration;
+
 /**
  * Port for job queue operations.
  * Can be implemented by RabbitMQ, Redis, Kafka, or in-memory.
@@ -27,4 +29,10 @@ public interface JobQueue {
      * Return job to queue (on failure).
      */
     void requeue(ScrapeJob job);
+    
+    /**
+     * Park a job and return it to the queue once the delay has passed
+     * (e.g. while its host's circuit breaker is open).
+     */
+    void requeue(ScrapeJob job, Duration delay);
 }
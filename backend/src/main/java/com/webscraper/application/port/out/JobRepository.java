@@ -1,8 +1,10 @@
 package com.webscraper.application.port.out;
 
 import com.webscraper.domain.entity.ScrapeJob;
+import com.webscraper.domain.valueobject.Cursor;
 import com.webscraper.domain.valueobject.JobStatus;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,17 +14,41 @@ import java.util.UUID;
  */
 public interface JobRepository {
     
+    /**
+     * Insert a new job. Saving a job that is already stored changes nothing;
+     * use the transitions below to change its state.
+     */
     ScrapeJob save(ScrapeJob job);
     
     Optional<ScrapeJob> findById(UUID id);
     
-    List<ScrapeJob> findByUserId(UUID userId, int page, int size);
+    /**
+     * A user's jobs, newest first, starting after the cursor (null for the first page).
+     */
+    List<ScrapeJob> findByUserId(UUID userId, Cursor after, int limit);
     
-    List<ScrapeJob> findByUserIdAndStatus(UUID userId, JobStatus status, int page, int size);
+    List<ScrapeJob> findByUserIdAndStatus(UUID userId, JobStatus status, Cursor after, int limit);
     
     List<ScrapeJob> findByTargetId(UUID targetId);
     
     List<ScrapeJob> findPendingByTargetId(UUID targetId);
     
     List<ScrapeJob> findPendingJobsOrderedBySchedule();
+    
+    // State transitions. Each is a single conditional update that only applies
+    // while the job is still in a state the transition starts from, so of two
+    // concurrent actors exactly one wins. They return the updated job, or empty
+    // when the job does not exist or is no longer in that state.
+    
+    /** PENDING to RUNNING. */
+    Optional<ScrapeJob> start(UUID id, Instant startedAt);
+    
+    /** RUNNING to COMPLETED. */
+    Optional<ScrapeJob> complete(UUID id, int pagesFound, int pagesScraped, Instant completedAt);
+    
+    /** PENDING or RUNNING to FAILED. */
+    Optional<ScrapeJob> fail(UUID id, String errorMessage, Instant completedAt);
+    
+    /** PENDING or RUNNING to CANCELLED, for the job's owner only. */
+    Optional<ScrapeJob> cancel(UUID id, UUID userId, Instant completedAt);
 }
@@ -1,26 +1,62 @@
 package com.webscraper.application.port.out;
 
 import com.webscraper.domain.entity.Page;
+import com.webscraper.domain.valueobject.ChangeRate;
+import com.webscraper.domain.valueobject.Cursor;
 import com.webscraper.domain.valueobject.UrlHash;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Port for page persistence operations.
  */
 public interface PageRepository {
     
-    Page save(Page page);
+    /**
+     * Insert discovered pages in bulk. Pages whose URL is already stored for
+     * their target, or repeated earlier in the input, are skipped without error.
+     * @return the pages that were actually inserted, in input order
+     */
+    List<Page> ingest(Stream<Page> pages);
     
     Optional<Page> findById(UUID id);
     
-    Optional<Page> findByUrlHash(UrlHash urlHash);
+    /**
+     * The target's page for a URL; URLs are unique per target, not globally.
+     */
+    Optional<Page> findByUrlHash(UUID targetId, UrlHash urlHash);
     
-    boolean existsByUrlHash(UrlHash urlHash);
+    /**
+     * Count a scrape of the page's URL in one atomic statement: the page is
+     * inserted with one scrape, or if its target already stores the URL, that
+     * page's scrape count is incremented. Safe when several workers scrape the same URL.
+     * @return id of the inserted or existing page
+     */
+    UUID upsertScraped(Page page, Instant scrapedAt);
     
-    List<Page> findByTargetId(UUID targetId, int page, int size);
+    /**
+     * Store a new change-rate estimate and next visit without rewriting the
+     * rest of the row, so concurrent scrape counts are not overwritten.
+     */
+    void updateSchedule(UUID pageId, ChangeRate changeRate, Instant nextScrapeAt);
     
+    /**
+     * A target's pages, newest first, starting after the cursor (null for the first page).
+     */
+    List<Page> findByTargetId(UUID targetId, Cursor after, int limit);
+    
+    /**
+     * Number of the target's pages, read from a maintained counter.
+     */
     long countByTargetId(UUID targetId);
+    
+    /**
+     * Pages of a target whose next planned scrape is due, most overdue first.
+     * Pages never scheduled come first.
+     */
+    List<Page> findDueForScrape(UUID targetId, Instant now, int limit);
 }
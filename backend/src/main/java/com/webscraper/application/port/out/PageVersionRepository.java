@@ -0,0 +1,52 @@
+package com.webscraper.application.port.out;
+
+import com.webscraper.domain.entity.PageVersion;
+import com.webscraper.domain.valueobject.SimHash;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for page version persistence operations.
+ * Versions are loaded without their HTML; see {@link #findInlineHtml}.
+ */
+public interface PageVersionRepository {
+    
+    PageVersion save(PageVersion version);
+    
+    Optional<PageVersion> findById(UUID id);
+    
+    /**
+     * The page's newest version still in page_versions. Empty for a page with
+     * no versions, which includes a page whose versions were all archived:
+     * unlike retention, archiving moves whole months and can take a page's
+     * newest version with it.
+     */
+    Optional<PageVersion> findLatestByPageId(UUID pageId);
+    
+    /**
+     * HTML stored inline on versions written before the blob store.
+     * @return empty for versions whose HTML is in the blob store
+     */
+    Optional<String> findInlineHtml(UUID versionId);
+    
+    /**
+     * Number of versions ever recorded for the page and when it was first scraped.
+     * Both cover the page's whole life, like its scrape count: versions removed
+     * by retention still count.
+     */
+    VersionHistory findHistoryByPageId(UUID pageId);
+    
+    /**
+     * Find versions of the target's pages whose SimHash is within {@code maxDistance} bits of the given one.
+     * @param maxDistance at most 3; the index is built on four 16-bit bands
+     */
+    List<UUID> findNearDuplicateIds(UUID targetId, SimHash simHash, int maxDistance, int limit);
+    
+    record VersionHistory(
+        long versionCount,
+        Instant firstScrapedAt  // null when the page was never scraped
+    ) {}
+}
@@ -1,6 +1,9 @@
 package com.webscraper.application.port.out;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Port for calling Python scraper service.
@@ -14,9 +17,21 @@ public interface ScraperGateway {
      */
     ScrapingResult scrape(ScrapeRequest request);
     
+    /**
+     * Request scraping of many URLs in as few round trips as possible.
+     * Results are delivered to {@code onResult} as each URL finishes, in no
+     * particular order; the call returns once every request has a result.
+     * Implementations may invoke {@code onResult} from several threads.
+     */
+    default void scrapeBatch(List<ScrapeRequest> requests, Consumer<BatchItem> onResult) {
+        for (int i = 0; i < requests.size(); i++) {
+            onResult.accept(new BatchItem(i, scrape(requests.get(i))));
+        }
+    }
+    
     record ScrapeRequest(
         String url,
-        String engine,  // "playwright" or "selenium"
+        String engine,  // "playwright", "selenium" or "static"
         Map<String, Object> config
     ) {}
     
@@ -30,4 +45,44 @@ public interface ScraperGateway {
             return error == null && httpStatus >= 200 && httpStatus < 300;
         }
     }
+    
+    /**
+     * One result of a batch, tagged with the position of its request.
+     * A request refused because its host is unavailable carries the time to
+     * wait before retrying it; callers should park it rather than count a
+     * failed scrape.
+     */
+    record BatchItem(
+        int index,
+        ScrapingResult result,
+        Duration retryAfter  // null unless the request was refused
+    ) {
+        public BatchItem(int index, ScrapingResult result) {
+            this(index, result, null);
+        }
+        
+        public boolean isRefused() {
+            return retryAfter != null;
+        }
+    }
+    
+    /**
+     * Thrown by {@link #scrape} when a host is temporarily refused because its
+     * circuit is open. Callers should park the job and retry after
+     * {@link #getRetryAfter()}; {@link #scrapeBatch} reports refusals per item instead.
+     */
+    class HostUnavailableException extends RuntimeException {
+        
+        private final String host;
+        private final Duration retryAfter;
+
+        public HostUnavailableException(String host, Duration retryAfter) {
+            super("Host temporarily unavailable: " + host);
+            this.host = host;
+            this.retryAfter = retryAfter;
+        }
+
+        public String getHost() { return host; }
+        public Duration getRetryAfter() { return retryAfter; }
+    }
 }
@@ -1,6 +1,7 @@
 package com.webscraper.application.port.out;
 
 import com.webscraper.domain.entity.Target;
+import com.webscraper.domain.valueobject.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,10 +16,16 @@ public interface TargetRepository {
     
     Optional<Target> findById(UUID id);
     
-    List<Target> findByUserId(UUID userId, int page, int size);
+    /**
+     * A user's active targets, newest first, starting after the cursor (null for the first page).
+     */
+    List<Target> findByUserId(UUID userId, Cursor after, int limit);
     
     List<Target> findActiveByUserId(UUID userId);
     
+    /**
+     * Number of the user's active targets, read from a maintained counter.
+     */
     long countByUserId(UUID userId);
     
     void delete(UUID id);
@@ -0,0 +1,18 @@
+package com.webscraper.application.usecase;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a use case that only reads. Its methods run in a read-only
+ * transaction, which may be served by a read replica; what it reads can
+ * therefore be up to the configured replica lag behind the latest writes.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnlyUseCase {
+}
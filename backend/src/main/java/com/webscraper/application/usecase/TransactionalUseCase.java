@@ -0,0 +1,17 @@
+package com.webscraper.application.usecase;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a use case whose writes must commit or roll back together. Its
+ * methods run in one read-write transaction on the primary.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TransactionalUseCase {
+}
@@ -3,6 +3,7 @@ package com.webscraper.application.usecase.data;
 import com.webscraper.application.port.out.ExportService;
 import com.webscraper.application.port.out.PageRepository;
 import com.webscraper.application.port.out.TargetRepository;
+import com.webscraper.application.usecase.ReadOnlyUseCase;
 import com.webscraper.domain.entity.Page;
 import com.webscraper.domain.exception.AccessDeniedException;
 import com.webscraper.domain.exception.DomainException;
@@ -17,6 +18,7 @@ import java.util.UUID;
 /**
  * Use case: Export scraped data to Excel or CSV.
  */
+@ReadOnlyUseCase
 public class ExportDataUseCase {
     
     private final PageRepository pageRepository;
@@ -42,7 +44,7 @@ public class ExportDataUseCase {
         }
         
         // Get pages for target
-        List<Page> pages = pageRepository.findByTargetId(command.targetId(), 0, 10000);
+        List<Page> pages = pageRepository.findByTargetId(command.targetId(), null, 10000);
         
         // Convert to export format
         List<String> headers = List.of("URL", "Last Scraped", "Scrape Count", "Created At");
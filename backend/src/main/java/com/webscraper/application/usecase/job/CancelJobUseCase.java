@@ -3,8 +3,10 @@ package com.webscraper.application.usecase.job;
 import com.webscraper.application.port.out.JobRepository;
 import com.webscraper.domain.entity.ScrapeJob;
 import com.webscraper.domain.exception.AccessDeniedException;
+import com.webscraper.domain.exception.DomainException;
 import com.webscraper.domain.exception.EntityNotFoundException;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -23,16 +25,19 @@ public class CancelJobUseCase {
     public record Result(ScrapeJob job) {}
 
     public Result execute(Command command) {
+        // One conditional update; the job is only read to explain a refusal
+        return jobRepository.cancel(command.jobId(), command.userId(), Instant.now())
+                .map(Result::new)
+                .orElseThrow(() -> refusal(command));
+    }
+    
+    private DomainException refusal(Command command) {
         ScrapeJob job = jobRepository.findById(command.jobId())
                 .orElseThrow(() -> new EntityNotFoundException("Job", command.jobId()));
         
         if (!job.isOwnedBy(command.userId())) {
-            throw new AccessDeniedException("Not authorized to cancel this job");
+            return new AccessDeniedException("Not authorized to cancel this job");
         }
-        
-        job.cancel();  // Domain logic handles state validation
-        
-        ScrapeJob saved = jobRepository.save(job);
-        return new Result(saved);
+        return new DomainException("Can only cancel PENDING or RUNNING jobs, job is " + job.getStatus());
     }
 }
@@ -9,6 +9,9 @@ import java.util.UUID;
 
 /**
  * Use case: Get a single job by ID.
+ * Reads from the primary, not a replica: clients fetch a job right after
+ * creating it and poll it for status changes, which a lagging replica would
+ * answer with a 404 or a stale status.
  */
 public class GetJobUseCase {
     
@@ -1,15 +1,18 @@
 package com.webscraper.application.usecase.job;
 
 import com.webscraper.application.port.out.JobRepository;
+import com.webscraper.application.usecase.ReadOnlyUseCase;
 import com.webscraper.domain.entity.ScrapeJob;
+import com.webscraper.domain.valueobject.Cursor;
 import com.webscraper.domain.valueobject.JobStatus;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
- * Use case: List user's jobs with optional status filter.
+ * Use case: List user's jobs with optional status filter, a page at a time.
  */
+@ReadOnlyUseCase
 public class ListJobsUseCase {
     
     private final JobRepository jobRepository;
@@ -18,20 +21,26 @@ public class ListJobsUseCase {
         this.jobRepository = jobRepository;
     }
 
-    public record Command(UUID userId, JobStatus status, int page, int size) {}
+    public record Command(UUID userId, JobStatus status, Cursor after, int size) {}
     
-    public record Result(List<ScrapeJob> jobs) {}
+    public record Result(List<ScrapeJob> jobs, Cursor next) {}
 
     public Result execute(Command command) {
         List<ScrapeJob> jobs;
         
+        // One row past the page tells whether there is another page, without counting
         if (command.status() != null) {
             jobs = jobRepository.findByUserIdAndStatus(
-                    command.userId(), command.status(), command.page(), command.size());
+                    command.userId(), command.status(), command.after(), command.size() + 1);
         } else {
-            jobs = jobRepository.findByUserId(command.userId(), command.page(), command.size());
+            jobs = jobRepository.findByUserId(command.userId(), command.after(), command.size() + 1);
         }
         
-        return new Result(jobs);
+        if (jobs.size() <= command.size()) {
+            return new Result(jobs, null);
+        }
+        jobs = jobs.subList(0, command.size());
+        ScrapeJob last = jobs.get(jobs.size() - 1);
+        return new Result(jobs, new Cursor(last.getCreatedAt(), last.getId()));
     }
 }
@@ -0,0 +1,191 @@
+package com.webscraper.application.usecase.job;
+
+import com.webscraper.application.port.out.JobQueue;
+import com.webscraper.application.port.out.JobRepository;
+import com.webscraper.application.port.out.PageRepository;
+import com.webscraper.application.port.out.ScraperGateway;
+import com.webscraper.application.port.out.ScraperGateway.BatchItem;
+import com.webscraper.application.port.out.ScraperGateway.HostUnavailableException;
+import com.webscraper.application.port.out.ScraperGateway.ScrapeRequest;
+import com.webscraper.application.port.out.ScraperGateway.ScrapingResult;
+import com.webscraper.application.port.out.TargetRepository;
+import com.webscraper.application.usecase.scrape.RecordPageVersionUseCase;
+import com.webscraper.domain.entity.Page;
+import com.webscraper.domain.entity.ScrapeJob;
+import com.webscraper.domain.entity.Target;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Use case: Run a job taken off the queue. Scrapes the target's start page
+ * and its pages that are due, records their content, and completes the job.
+ * Requests refused because a host's circuit breaker is open are not failures:
+ * the job is parked on the queue for the remaining cool-down and runs again
+ * as a continuation. Pages recorded in the meantime are no longer due, so
+ * the continuation only repeats the start page and what was refused.
+ */
+public class RunScrapeJobUseCase {
+    
+    private final JobRepository jobRepository;
+    private final TargetRepository targetRepository;
+    private final PageRepository pageRepository;
+    private final ScraperGateway scraperGateway;
+    private final JobQueue jobQueue;
+    private final RecordPageVersionUseCase recordPageVersion;
+    private final int pageBudget;
+
+    /**
+     * @param pageBudget due pages scraped per run, besides the start page
+     */
+    public RunScrapeJobUseCase(JobRepository jobRepository, TargetRepository targetRepository,
+                               PageRepository pageRepository, ScraperGateway scraperGateway, JobQueue jobQueue,
+                               RecordPageVersionUseCase recordPageVersion, int pageBudget) {
+        this.jobRepository = jobRepository;
+        this.targetRepository = targetRepository;
+        this.pageRepository = pageRepository;
+        this.scraperGateway = scraperGateway;
+        this.jobQueue = jobQueue;
+        this.recordPageVersion = recordPageVersion;
+        this.pageBudget = pageBudget;
+    }
+
+    public record Command(ScrapeJob job) {}
+    
+    public enum Outcome {
+        COMPLETED,  // Every request got a result
+        PARKED,     // Some requests were refused; requeued until the host accepts calls again
+        FAILED,     // The run could not go on; the job is marked FAILED
+        SKIPPED     // The job was cancelled, finished or taken by another worker meanwhile
+    }
+    
+    public record Result(Outcome outcome, int pagesFound, int pagesScraped) {}
+
+    public Result execute(Command command) {
+        ScrapeJob queued = command.job();
+        Optional<ScrapeJob> running = begin(queued.getId());
+        if (running.isEmpty()) {
+            jobQueue.acknowledge(queued);
+            return new Result(Outcome.SKIPPED, queued.getPagesFound(), queued.getPagesScraped());
+        }
+        ScrapeJob job = running.get();
+        
+        try {
+            Optional<Target> target = targetRepository.findById(job.getTargetId());
+            if (target.isEmpty()) {
+                return fail(queued, "Target no longer exists");
+            }
+            return scrape(queued, job, target.get());
+        } catch (RuntimeException e) {
+            return fail(queued, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+    
+    // The queued copy may be stale; only the stored status says whether the job still runs.
+    // A RUNNING job on the queue is a parked continuation.
+    private Optional<ScrapeJob> begin(UUID jobId) {
+        Optional<ScrapeJob> stored = jobRepository.findById(jobId);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        return switch (stored.get().getStatus()) {
+            case PENDING -> jobRepository.start(jobId, Instant.now());
+            case RUNNING -> stored;
+            default -> Optional.empty();
+        };
+    }
+    
+    private Result scrape(ScrapeJob queued, ScrapeJob job, Target target) {
+        Set<String> urls = new LinkedHashSet<>();
+        urls.add(target.getBaseUrl());
+        for (Page page : pageRepository.findDueForScrape(target.getId(), Instant.now(), pageBudget)) {
+            urls.add(page.getUrl());
+        }
+        String engine = engineFor(job, target);
+        List<ScrapeRequest> requests = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            requests.add(new ScrapeRequest(url, engine, job.getConfig()));
+        }
+        
+        AtomicInteger found = new AtomicInteger();
+        AtomicInteger scraped = new AtomicInteger();
+        AtomicReference<Duration> retryAfter = new AtomicReference<>();
+        try {
+            scraperGateway.scrapeBatch(requests, item -> {
+                if (item.isRefused()) {
+                    retryAfter.accumulateAndGet(item.retryAfter(), RunScrapeJobUseCase::longer);
+                    return;
+                }
+                found.incrementAndGet();
+                if (record(job, requests.get(item.index()), item)) {
+                    scraped.incrementAndGet();
+                }
+            });
+        } catch (HostUnavailableException e) {
+            // Gateways without per-item refusals give up on the whole batch
+            retryAfter.accumulateAndGet(e.getRetryAfter(), RunScrapeJobUseCase::longer);
+        }
+        
+        int pagesFound = queued.getPagesFound() + found.get();
+        int pagesScraped = queued.getPagesScraped() + scraped.get();
+        if (retryAfter.get() != null) {
+            jobQueue.requeue(job.withProgress(pagesFound, pagesScraped), retryAfter.get());
+            return new Result(Outcome.PARKED, pagesFound, pagesScraped);
+        }
+        
+        jobQueue.acknowledge(queued);
+        Outcome outcome = jobRepository.complete(job.getId(), pagesFound, pagesScraped, Instant.now()).isPresent()
+                ? Outcome.COMPLETED : Outcome.SKIPPED;  // Cancelled while running
+        return new Result(outcome, pagesFound, pagesScraped);
+    }
+    
+    // Results arrive on the gateway's threads; a page that cannot be recorded counts as not scraped
+    private boolean record(ScrapeJob job, ScrapeRequest request, BatchItem item) {
+        ScrapingResult result = item.result();
+        if (!result.isSuccess()) {
+            return false;
+        }
+        try {
+            recordPageVersion.execute(new RecordPageVersionUseCase.Command(
+                job.getTargetId(),
+                job.getId(),
+                request.url(),
+                result.rawHtml(),
+                result.httpStatus(),
+                result.responseTimeMs()
+            ));
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+    
+    private Result fail(ScrapeJob queued, String errorMessage) {
+        jobQueue.acknowledge(queued);
+        jobRepository.fail(queued.getId(), errorMessage, Instant.now());
+        return new Result(Outcome.FAILED, queued.getPagesFound(), queued.getPagesScraped());
+    }
+    
+    // The job's config overrides the target's; no engine lets the gateway choose
+    private static String engineFor(ScrapeJob job, Target target) {
+        String engine = engineIn(job.getConfig());
+        return engine != null ? engine : engineIn(target.getScrapeConfig());
+    }
+    
+    private static String engineIn(Map<String, Object> config) {
+        return config != null && config.get("engine") instanceof String engine ? engine : null;
+    }
+    
+    private static Duration longer(Duration current, Duration candidate) {
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+}
@@ -0,0 +1,42 @@
+package com.webscraper.application.usecase.scrape;
+
+import com.webscraper.application.port.out.BlobStore;
+import com.webscraper.application.port.out.PageVersionRepository;
+import com.webscraper.application.usecase.ReadOnlyUseCase;
+import com.webscraper.domain.entity.PageVersion;
+import com.webscraper.domain.exception.EntityNotFoundException;
+
+import java.util.UUID;
+
+/**
+ * Use case: Load the HTML of a page version.
+ * Versions keep only the content hash; the body lives in the blob store.
+ * Versions written before the blob store still carry their HTML inline,
+ * and only this read loads it.
+ */
+@ReadOnlyUseCase
+public class GetPageContentUseCase {
+    
+    private final PageVersionRepository pageVersionRepository;
+    private final BlobStore blobStore;
+
+    public GetPageContentUseCase(PageVersionRepository pageVersionRepository, BlobStore blobStore) {
+        this.pageVersionRepository = pageVersionRepository;
+        this.blobStore = blobStore;
+    }
+
+    public record Command(UUID versionId) {}
+    
+    public record Result(PageVersion version, String rawHtml) {}
+
+    public Result execute(Command command) {
+        PageVersion version = pageVersionRepository.findById(command.versionId())
+                .orElseThrow(() -> new EntityNotFoundException("PageVersion", command.versionId()));
+        
+        String rawHtml = blobStore.get(version.getContentHash())
+                .or(() -> pageVersionRepository.findInlineHtml(version.getId()))
+                .orElseThrow(() -> new IllegalStateException(
+                        "Blob " + version.getContentHash() + " missing for version " + version.getId()));
+        return new Result(version, rawHtml);
+    }
+}
@@ -0,0 +1,31 @@
+package com.webscraper.application.usecase.scrape;
+
+import com.webscraper.application.port.out.PageRepository;
+import com.webscraper.domain.entity.Page;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: Pick the pages of a target to rescrape within a fetch budget.
+ * Pages are scheduled from their estimated change rate, so volatile pages
+ * come due often and stable ones rarely.
+ */
+public class ListDuePagesUseCase {
+    
+    private final PageRepository pageRepository;
+
+    public ListDuePagesUseCase(PageRepository pageRepository) {
+        this.pageRepository = pageRepository;
+    }
+
+    public record Command(UUID targetId, int budget) {}
+    
+    public record Result(List<Page> pages) {}
+
+    public Result execute(Command command) {
+        List<Page> due = pageRepository.findDueForScrape(command.targetId(), Instant.now(), command.budget());
+        return new Result(due);
+    }
+}
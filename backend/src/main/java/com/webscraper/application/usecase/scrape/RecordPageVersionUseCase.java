@@ -0,0 +1,138 @@
+package com.webscraper.application.usecase.scrape;
+
+import com.webscraper.application.port.out.BlobStore;
+import com.webscraper.application.port.out.PageRepository;
+import com.webscraper.application.port.out.PageVersionRepository;
+import com.webscraper.application.usecase.TransactionalUseCase;
+import com.webscraper.domain.entity.Page;
+import com.webscraper.domain.entity.PageVersion;
+import com.webscraper.domain.exception.EntityNotFoundException;
+import com.webscraper.domain.service.ContentHasher;
+import com.webscraper.domain.valueobject.ChangeRate;
+import com.webscraper.domain.valueobject.RevisitPolicy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use case: Record the content of a freshly scraped page.
+ * The page is registered or its scrape counted in one atomic upsert, so
+ * workers scraping the same URL concurrently do not conflict.
+ * Unchanged and near-duplicate content does not create a new version;
+ * content similar to a version of another page of the same target is
+ * stored but linked to it.
+ * The HTML goes to the blob store, so identical content is kept once, and
+ * as a delta against the page's previous version where that is smaller.
+ * The page's change rate is then re-estimated and its next visit planned.
+ * All of it runs in one transaction, so a failure part way leaves no scrape
+ * counted without its version or schedule.
+ */
+@TransactionalUseCase
+public class RecordPageVersionUseCase {
+    
+    private final PageRepository pageRepository;
+    private final PageVersionRepository pageVersionRepository;
+    private final BlobStore blobStore;
+    private final int maxSimHashDistance;
+    private final RevisitPolicy revisitPolicy;
+    private final ContentHasher hasher;
+
+    public RecordPageVersionUseCase(PageRepository pageRepository, PageVersionRepository pageVersionRepository,
+                                    BlobStore blobStore, int maxSimHashDistance, RevisitPolicy revisitPolicy,
+                                    ContentHasher hasher) {
+        this.pageRepository = pageRepository;
+        this.pageVersionRepository = pageVersionRepository;
+        this.blobStore = blobStore;
+        this.maxSimHashDistance = maxSimHashDistance;
+        this.revisitPolicy = revisitPolicy;
+        this.hasher = hasher;
+    }
+
+    public record Command(
+        UUID targetId,
+        UUID jobId,
+        String url,
+        String rawHtml,
+        int httpStatus,
+        Integer responseTimeMs
+    ) {}
+    
+    public enum Outcome {
+        NEW,             // Stored as a new version
+        LINKED,          // Stored, linked to a near-duplicate version of another page
+        UNCHANGED,       // Same content hash as the latest version; nothing stored
+        NEAR_DUPLICATE   // Only trivial changes since the latest version; nothing stored
+    }
+    
+    public record Result(PageVersion version, Outcome outcome) {}
+
+    public Result execute(Command command) {
+        UUID pageId = pageRepository.upsertScraped(
+                Page.create(command.targetId(), command.jobId(), command.url(), hasher), Instant.now());
+        Page page = pageRepository.findById(pageId)
+                .orElseThrow(() -> new EntityNotFoundException("Page", pageId));
+        
+        Result result = storeVersion(command, page);
+        
+        page.scheduleNextScrape(estimateChangeRate(page), revisitPolicy);
+        pageRepository.updateSchedule(page.getId(), page.getChangeRate(), page.getNextScrapeAt());
+        
+        return result;
+    }
+
+    private Result storeVersion(Command command, Page page) {
+        PageVersion candidate = PageVersion.create(
+            page.getId(),
+            command.jobId(),
+            command.rawHtml(),
+            command.httpStatus(),
+            command.responseTimeMs(),
+            hasher
+        );
+        
+        // Compare with this page's latest version first
+        Optional<PageVersion> latest = pageVersionRepository.findLatestByPageId(page.getId());
+        if (latest.isPresent()) {
+            // The candidate holds its HTML, so it can rehash if the latest used another algorithm
+            if (candidate.hasSameContent(latest.get().getContentHash())) {
+                return new Result(latest.get(), Outcome.UNCHANGED);
+            }
+            if (candidate.isNearDuplicateOf(latest.get(), maxSimHashDistance)) {
+                return new Result(latest.get(), Outcome.NEAR_DUPLICATE);
+            }
+        }
+        
+        // Then look for the same content under another URL of the target; pages
+        // without visible text have no fingerprint and are never linked
+        List<UUID> similar = candidate.getSimHash() == null ? List.of()
+                : pageVersionRepository.findNearDuplicateIds(page.getTargetId(), candidate.getSimHash(),
+                        maxSimHashDistance, 1);
+        if (!similar.isEmpty()) {
+            candidate.linkToNearDuplicate(similar.get(0));
+        }
+        
+        // Blob first, so a stored version never points at missing content
+        blobStore.put(candidate.getContentHash(), command.rawHtml(), page.getTargetId(),
+                latest.map(PageVersion::getContentHash).orElse(null));
+        PageVersion saved = pageVersionRepository.save(candidate);
+        return new Result(saved, similar.isEmpty() ? Outcome.NEW : Outcome.LINKED);
+    }
+
+    // Every recorded version after the first is a detected change; every scrape after the first is a revisit.
+    // All three counts cover the page's whole life, so retention does not skew the estimate.
+    private ChangeRate estimateChangeRate(Page page) {
+        var history = pageVersionRepository.findHistoryByPageId(page.getId());
+        int revisits = page.getScrapeCount() - 1;
+        if (revisits < 1 || history.firstScrapedAt() == null) {
+            return null;
+        }
+        Duration observed = Duration.between(history.firstScrapedAt(), page.getLastScrapedAt());
+        if (observed.isZero() || observed.isNegative()) {
+            return null;
+        }
+        return ChangeRate.estimate(revisits, (int) history.versionCount() - 1, observed);
+    }
+}
@@ -0,0 +1,35 @@
+package com.webscraper.application.usecase.scrape;
+
+import com.webscraper.application.port.out.PageRepository;
+import com.webscraper.domain.entity.Page;
+import com.webscraper.domain.service.ContentHasher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: Register the URLs a crawl discovered as pages of a target.
+ * URLs are inserted in bulk; those already known are skipped, so only
+ * the returned pages are new and need to be scheduled.
+ */
+public class RegisterDiscoveredPagesUseCase {
+    
+    private final PageRepository pageRepository;
+    private final ContentHasher hasher;
+
+    public RegisterDiscoveredPagesUseCase(PageRepository pageRepository, ContentHasher hasher) {
+        this.pageRepository = pageRepository;
+        this.hasher = hasher;
+    }
+
+    public record Command(UUID targetId, UUID jobId, Collection<String> urls) {}
+    
+    public record Result(List<Page> newPages, int skipped) {}
+
+    public Result execute(Command command) {
+        List<Page> inserted = pageRepository.ingest(command.urls().stream()
+                .map(url -> Page.create(command.targetId(), command.jobId(), url, hasher)));
+        return new Result(inserted, command.urls().size() - inserted.size());
+    }
+}
@@ -2,6 +2,7 @@ package com.webscraper.application.usecase.targets;
 
 import com.webscraper.application.port.out.TargetRepository;
 import com.webscraper.domain.entity.Target;
+import com.webscraper.domain.valueobject.RetentionPolicy;
 
 import java.util.Map;
 import java.util.UUID;
@@ -22,7 +23,8 @@ public class CreateTargetUseCase {
         String name,
         String baseUrl,
         String description,
-        Map<String, Object> scrapeConfig
+        Map<String, Object> scrapeConfig,
+        RetentionPolicy retention  // null keeps every version
     ) {}
     
     public record Result(Target target) {}
@@ -33,7 +35,8 @@ public class CreateTargetUseCase {
             command.name(),
             command.baseUrl(),
             command.description(),
-            command.scrapeConfig()
+            command.scrapeConfig(),
+            command.retention()
         );
 
         Target saved = targetRepository.save(target);
@@ -9,6 +9,8 @@ import java.util.UUID;
 
 /**
  * Use case: Get a single target by ID.
+ * Reads from the primary, not a replica: clients fetch a target right after
+ * creating it, which a lagging replica would answer with a 404.
  */
 public class GetTargetUseCase {
     
@@ -1,14 +1,17 @@
 package com.webscraper.application.usecase.targets;
 
 import com.webscraper.application.port.out.TargetRepository;
+import com.webscraper.application.usecase.ReadOnlyUseCase;
 import com.webscraper.domain.entity.Target;
+import com.webscraper.domain.valueobject.Cursor;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
- * Use case: List user's targets with pagination.
+ * Use case: List user's targets, a page at a time.
  */
+@ReadOnlyUseCase
 public class ListTargetsUseCase {
     
     private final TargetRepository targetRepository;
@@ -17,15 +20,21 @@ public class ListTargetsUseCase {
         this.targetRepository = targetRepository;
     }
 
-    public record Command(UUID userId, int page, int size) {}
+    public record Command(UUID userId, Cursor after, int size) {}
     
-    public record Result(List<Target> targets, long total) {}
+    public record Result(List<Target> targets, Cursor next, long total) {}
 
     public Result execute(Command command) {
+        // One row past the page tells whether there is another page, without counting
         List<Target> targets = targetRepository.findByUserId(
-                command.userId(), command.page(), command.size());
+                command.userId(), command.after(), command.size() + 1);
         long total = targetRepository.countByUserId(command.userId());
         
-        return new Result(targets, total);
+        if (targets.size() <= command.size()) {
+            return new Result(targets, null, total);
+        }
+        targets = targets.subList(0, command.size());
+        Target last = targets.get(targets.size() - 1);
+        return new Result(targets, new Cursor(last.getCreatedAt(), last.getId()), total);
     }
 }
@@ -1,5 +1,7 @@
 package com.webscraper.domain.entity;
 
+import com.webscraper.domain.valueobject.UuidV7;
+
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -18,7 +20,7 @@ public class Chunk {
 
     public static Chunk create(UUID pageVersionId, String content, int chunkIndex, int tokenCount) {
         return new Chunk(
-            UUID.randomUUID(),
+            UuidV7.next(),
             pageVersionId,
             content,
             chunkIndex,
@@ -1,6 +1,10 @@
 package com.webscraper.domain.entity;
 
+import com.webscraper.domain.service.ContentHasher;
+import com.webscraper.domain.valueobject.ChangeRate;
+import com.webscraper.domain.valueobject.RevisitPolicy;
 import com.webscraper.domain.valueobject.UrlHash;
+import com.webscraper.domain.valueobject.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,23 +20,28 @@ public class Page {
     private final UrlHash urlHash;
     private Instant lastScrapedAt;
     private int scrapeCount;
+    private ChangeRate changeRate;
+    private Instant nextScrapeAt;
     private final Instant createdAt;
 
-    public static Page create(UUID targetId, UUID jobId, String url) {
+    public static Page create(UUID targetId, UUID jobId, String url, ContentHasher hasher) {
         return new Page(
-            UUID.randomUUID(),
+            UuidV7.next(),
             targetId,
             jobId,
             url,
-            UrlHash.of(url),
+            hasher.url(url),
             null,
             0,
+            null,
+            null,
             Instant.now()
         );
     }
 
     public Page(UUID id, UUID targetId, UUID discoveredByJobId, String url,
-                UrlHash urlHash, Instant lastScrapedAt, int scrapeCount, Instant createdAt) {
+                UrlHash urlHash, Instant lastScrapedAt, int scrapeCount,
+                ChangeRate changeRate, Instant nextScrapeAt, Instant createdAt) {
         this.id = id;
         this.targetId = targetId;
         this.discoveredByJobId = discoveredByJobId;
@@ -40,6 +49,8 @@ public class Page {
         this.urlHash = urlHash;
         this.lastScrapedAt = lastScrapedAt;
         this.scrapeCount = scrapeCount;
+        this.changeRate = changeRate;
+        this.nextScrapeAt = nextScrapeAt;
         this.createdAt = createdAt;
     }
 
@@ -51,11 +62,20 @@ public class Page {
     public UrlHash getUrlHash() { return urlHash; }
     public Instant getLastScrapedAt() { return lastScrapedAt; }
     public int getScrapeCount() { return scrapeCount; }
+    public ChangeRate getChangeRate() { return changeRate; }
+    public Instant getNextScrapeAt() { return nextScrapeAt; }
     public Instant getCreatedAt() { return createdAt; }
 
     // Domain behavior
-    public void markScraped() {
-        this.lastScrapedAt = Instant.now();
-        this.scrapeCount++;
+    // Scrapes are counted atomically by PageRepository.upsertScraped, not on the loaded entity
+
+    /**
+     * Record the latest change-rate estimate (null if unknown)
+     * and plan the next visit accordingly.
+     */
+    public void scheduleNextScrape(ChangeRate changeRate, RevisitPolicy policy) {
+        this.changeRate = changeRate;
+        Instant from = lastScrapedAt != null ? lastScrapedAt : Instant.now();
+        this.nextScrapeAt = from.plus(policy.nextInterval(changeRate));
     }
 }
@@ -1,12 +1,17 @@
 package com.webscraper.domain.entity;
 
+import com.webscraper.domain.service.ContentHasher;
 import com.webscraper.domain.valueobject.ContentHash;
+import com.webscraper.domain.valueobject.SimHash;
+import com.webscraper.domain.valueobject.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * Domain entity representing a version of a scraped page.
+ * The HTML is addressed by the content hash in the blob store; rawHtml is
+ * only held for a version being recorded. Loaded versions never carry it.
  */
 public class PageVersion {
     private final UUID id;
@@ -14,17 +19,22 @@ public class PageVersion {
     private UUID jobId;
     private final String rawHtml;
     private final ContentHash contentHash;
+    private final SimHash simHash;
+    private UUID nearDuplicateOf;
     private int httpStatus;
     private Integer responseTimeMs;
     private final Instant scrapedAt;
 
-    public static PageVersion create(UUID pageId, UUID jobId, String rawHtml, int httpStatus, Integer responseTimeMs) {
+    public static PageVersion create(UUID pageId, UUID jobId, String rawHtml, int httpStatus, Integer responseTimeMs,
+                                     ContentHasher hasher) {
         return new PageVersion(
-            UUID.randomUUID(),
+            UuidV7.next(),
             pageId,
             jobId,
             rawHtml,
-            ContentHash.of(rawHtml),
+            hasher.content(rawHtml),
+            SimHash.of(rawHtml).orElse(null),
+            null,
             httpStatus,
             responseTimeMs,
             Instant.now()
@@ -32,12 +42,15 @@ public class PageVersion {
     }
 
     public PageVersion(UUID id, UUID pageId, UUID jobId, String rawHtml,
-                       ContentHash contentHash, int httpStatus, Integer responseTimeMs, Instant scrapedAt) {
+                       ContentHash contentHash, SimHash simHash, UUID nearDuplicateOf,
+                       int httpStatus, Integer responseTimeMs, Instant scrapedAt) {
         this.id = id;
         this.pageId = pageId;
         this.jobId = jobId;
         this.rawHtml = rawHtml;
         this.contentHash = contentHash;
+        this.simHash = simHash;
+        this.nearDuplicateOf = nearDuplicateOf;
         this.httpStatus = httpStatus;
         this.responseTimeMs = responseTimeMs;
         this.scrapedAt = scrapedAt;
@@ -49,12 +62,32 @@ public class PageVersion {
     public UUID getJobId() { return jobId; }
     public String getRawHtml() { return rawHtml; }
     public ContentHash getContentHash() { return contentHash; }
+    public SimHash getSimHash() { return simHash; }
+    public UUID getNearDuplicateOf() { return nearDuplicateOf; }
     public int getHttpStatus() { return httpStatus; }
     public Integer getResponseTimeMs() { return responseTimeMs; }
     public Instant getScrapedAt() { return scrapedAt; }
 
     // Domain behavior
     public boolean hasSameContent(ContentHash other) {
+        if (contentHash.algorithm() != other.algorithm()) {
+            // Stored under another algorithm; rehash to compare like with like if the HTML is at hand.
+            // A weak hash can be matched by crafted content, so it never proves equality
+            return rawHtml != null && other.algorithm().isCollisionResistant()
+                    && ContentHash.of(rawHtml, other.algorithm()).equals(other);
+        }
         return this.contentHash.equals(other);
     }
+
+    public boolean isNearDuplicateOf(PageVersion other, int maxDistance) {
+        return simHash != null && other.simHash != null && simHash.isNearDuplicateOf(other.simHash, maxDistance);
+    }
+
+    /**
+     * Mark this version as textually equivalent to another one,
+     * so its chunks and embeddings can be reused instead of recomputed.
+     */
+    public void linkToNearDuplicate(UUID versionId) {
+        this.nearDuplicateOf = versionId;
+    }
 }
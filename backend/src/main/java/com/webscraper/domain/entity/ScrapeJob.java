@@ -1,6 +1,7 @@
 package com.webscraper.domain.entity;
 
 import com.webscraper.domain.valueobject.JobStatus;
+import com.webscraper.domain.valueobject.UuidV7;
 
 import java.time.Instant;
 import java.util.Map;
@@ -8,24 +9,26 @@ import java.util.UUID;
 
 /**
  * Domain entity representing a scraping job.
+ * A loaded job is a snapshot: status changes are conditional updates made by
+ * JobRepository's transitions, which return the updated job.
  */
 public class ScrapeJob {
     private final UUID id;
     private final UUID targetId;
     private final UUID userId;
-    private JobStatus status;
-    private Map<String, Object> config;
-    private Instant scheduledAt;
-    private Instant startedAt;
-    private Instant completedAt;
-    private int pagesFound;
-    private int pagesScraped;
-    private String errorMessage;
+    private final JobStatus status;
+    private final Map<String, Object> config;
+    private final Instant scheduledAt;
+    private final Instant startedAt;
+    private final Instant completedAt;
+    private final int pagesFound;
+    private final int pagesScraped;
+    private final String errorMessage;
     private final Instant createdAt;
 
     public static ScrapeJob create(UUID targetId, UUID userId, Map<String, Object> config, Instant scheduledAt) {
         return new ScrapeJob(
-            UUID.randomUUID(),
+            UuidV7.next(),
             targetId,
             userId,
             JobStatus.PENDING,
@@ -71,33 +74,14 @@ public class ScrapeJob {
     public Instant getCreatedAt() { return createdAt; }
 
     // Domain behavior
-    public void start() {
-        if (status != JobStatus.PENDING) {
-            throw new IllegalStateException("Can only start PENDING jobs");
-        }
-        this.status = JobStatus.RUNNING;
-        this.startedAt = Instant.now();
-    }
-
-    public void complete(int pagesFound, int pagesScraped) {
-        this.status = JobStatus.COMPLETED;
-        this.pagesFound = pagesFound;
-        this.pagesScraped = pagesScraped;
-        this.completedAt = Instant.now();
-    }
-
-    public void fail(String errorMessage) {
-        this.status = JobStatus.FAILED;
-        this.errorMessage = errorMessage;
-        this.completedAt = Instant.now();
-    }
 
-    public void cancel() {
-        if (status != JobStatus.PENDING && status != JobStatus.RUNNING) {
-            throw new IllegalStateException("Can only cancel PENDING or RUNNING jobs");
-        }
-        this.status = JobStatus.CANCELLED;
-        this.completedAt = Instant.now();
+    /**
+     * Copy carrying the progress of a run that was parked part way. The counts
+     * travel with the queued job and are stored when the job completes.
+     */
+    public ScrapeJob withProgress(int pagesFound, int pagesScraped) {
+        return new ScrapeJob(id, targetId, userId, status, config, scheduledAt, startedAt, completedAt,
+                pagesFound, pagesScraped, errorMessage, createdAt);
     }
 
     public boolean isCancellable() {
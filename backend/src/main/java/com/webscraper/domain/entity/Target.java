@@ -1,5 +1,8 @@
 package com.webscraper.domain.entity;
 
+import com.webscraper.domain.valueobject.RetentionPolicy;
+import com.webscraper.domain.valueobject.UuidV7;
+
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -15,26 +18,28 @@ public class Target {
     private String description;
     private Map<String, Object> scrapeConfig;
     private boolean active;
+    private RetentionPolicy retention;
     private final Instant createdAt;
     private Instant updatedAt;
 
-    public static Target create(UUID userId, String name, String baseUrl, 
-                                 String description, Map<String, Object> config) {
+    public static Target create(UUID userId, String name, String baseUrl, String description,
+                                 Map<String, Object> config, RetentionPolicy retention) {
         return new Target(
-            UUID.randomUUID(),
+            UuidV7.next(),
             userId,
             name,
             baseUrl,
             description,
             config != null ? config : Map.of(),
             true,
+            retention != null ? retention : RetentionPolicy.keepAll(),
             Instant.now(),
             Instant.now()
         );
     }
 
     public Target(UUID id, UUID userId, String name, String baseUrl, String description,
-                  Map<String, Object> scrapeConfig, boolean active, 
+                  Map<String, Object> scrapeConfig, boolean active, RetentionPolicy retention,
                   Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.userId = userId;
@@ -43,6 +48,7 @@ public class Target {
         this.description = description;
         this.scrapeConfig = scrapeConfig;
         this.active = active;
+        this.retention = retention;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -55,6 +61,7 @@ public class Target {
     public String getDescription() { return description; }
     public Map<String, Object> getScrapeConfig() { return scrapeConfig; }
     public boolean isActive() { return active; }
+    public RetentionPolicy getRetention() { return retention; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getUpdatedAt() { return updatedAt; }
 
@@ -69,6 +76,11 @@ public class Target {
         this.updatedAt = Instant.now();
     }
 
+    public void changeRetention(RetentionPolicy retention) {
+        this.retention = retention != null ? retention : RetentionPolicy.keepAll();
+        this.updatedAt = Instant.now();
+    }
+
     public void deactivate() {
         this.active = false;
         this.updatedAt = Instant.now();
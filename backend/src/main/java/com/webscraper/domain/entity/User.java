@@ -1,5 +1,7 @@
 package com.webscraper.domain.entity;
 
+import com.webscraper.domain.valueobject.UuidV7;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -20,7 +22,7 @@ public class User {
     // Factory method for new users
     public static User create(String email, String passwordHash, String fullName) {
         return new User(
-            UUID.randomUUID(),
+            UuidV7.next(),
             email,
             passwordHash,
             fullName,
@@ -0,0 +1,42 @@
+package com.webscraper.domain.service;
+
+import com.webscraper.domain.valueobject.ContentHash;
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import com.webscraper.domain.valueobject.UrlHash;
+
+/**
+ * Computes the hashes that identify pages and their content.
+ *
+ * Both are addressing keys: a URL hash finds a target's page, and a content
+ * hash names a blob that every target shares. URLs and HTML come from the
+ * sites being scraped, so an algorithm that can be made to collide would let
+ * one page stand in for another; only collision-resistant algorithms are
+ * accepted. Hashes stored with a weaker algorithm can still be read, and
+ * computed explicitly through UrlHash.of and ContentHash.of.
+ */
+public class ContentHasher {
+
+    private final HashAlgorithm urlAlgorithm;
+    private final HashAlgorithm contentAlgorithm;
+
+    public ContentHasher(HashAlgorithm urlAlgorithm, HashAlgorithm contentAlgorithm) {
+        requireCollisionResistant(urlAlgorithm, "URL");
+        requireCollisionResistant(contentAlgorithm, "Content");
+        this.urlAlgorithm = urlAlgorithm;
+        this.contentAlgorithm = contentAlgorithm;
+    }
+
+    public UrlHash url(CharSequence url) {
+        return UrlHash.of(url, urlAlgorithm);
+    }
+
+    public ContentHash content(CharSequence content) {
+        return ContentHash.of(content, contentAlgorithm);
+    }
+
+    private static void requireCollisionResistant(HashAlgorithm algorithm, String use) {
+        if (!algorithm.isCollisionResistant()) {
+            throw new IllegalArgumentException(use + " hashes address stored data and cannot use " + algorithm);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.webscraper.domain.valueobject;
+
+import java.time.Duration;
+
+/**
+ * Value object representing how often a page changes, in changes per day.
+ * Estimated from the page's visit history assuming changes arrive as a
+ * Poisson process.
+ */
+public record ChangeRate(double perDay) {
+    
+    private static final double SECONDS_PER_DAY = 86_400.0;
+    
+    public ChangeRate {
+        if (perDay < 0 || Double.isNaN(perDay)) {
+            throw new IllegalArgumentException("Change rate cannot be negative");
+        }
+    }
+
+    /**
+     * Estimate the rate from regular visits where we only see whether the
+     * page changed since the previous visit, not how many times.
+     * Uses the bias-reduced estimator -ln((n - X + 0.5) / (n + 0.5)) / I
+     * (Cho and Garcia-Molina), which stays finite when every visit saw a change.
+     *
+     * @param intervals number of revisits (visits after the first)
+     * @param changes   revisits that found new content
+     * @param observed  time spanned by those revisits
+     */
+    public static ChangeRate estimate(int intervals, int changes, Duration observed) {
+        if (intervals <= 0 || observed.isZero() || observed.isNegative()) {
+            throw new IllegalArgumentException("Need at least one revisit to estimate a change rate");
+        }
+        int x = Math.min(Math.max(changes, 0), intervals);
+        double changesPerInterval = -Math.log((intervals - x + 0.5) / (intervals + 0.5));
+        double intervalDays = observed.toSeconds() / SECONDS_PER_DAY / intervals;
+        return new ChangeRate(changesPerInterval / intervalDays);
+    }
+
+    /**
+     * Expected time between two changes, or null if the page never changes.
+     */
+    public Duration meanTimeBetweenChanges() {
+        if (perDay == 0) {
+            return null;
+        }
+        return Duration.ofSeconds((long) Math.min(SECONDS_PER_DAY / perDay, Long.MAX_VALUE / 2.0));
+    }
+}
@@ -1,36 +1,65 @@
 package com.webscraper.domain.valueobject;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
- * Value object representing a content hash (SHA-256).
+ * Value object representing a content hash.
  * Used for deduplication of page versions.
+ * Held as up to four 64-bit words and stored as BYTEA together with the
+ * algorithm that produced it, so hashes from different algorithms coexist.
  */
-public record ContentHash(String value) {
-    
+public record ContentHash(HashAlgorithm algorithm, long w0, long w1, long w2, long w3) {
+
     public ContentHash {
-        Objects.requireNonNull(value, "Hash value cannot be null");
-        if (value.length() != 64) {
-            throw new IllegalArgumentException("Invalid SHA-256 hash length");
-        }
+        Objects.requireNonNull(algorithm, "Hash algorithm cannot be null");
+    }
+
+    /**
+     * Hash with SHA-256. Hashes that are stored are computed through ContentHasher.
+     */
+    public static ContentHash of(CharSequence content) {
+        return HashStrategy.SHA_256.hash(content, ContentHash::new);
+    }
+
+    public static ContentHash of(CharSequence content, HashAlgorithm algorithm) {
+        return HashStrategy.of(algorithm).hash(content, ContentHash::new);
+    }
+
+    public static ContentHash of(ByteBuffer bytes) {
+        return HashStrategy.SHA_256.hash(bytes, ContentHash::new);
+    }
+
+    public static ContentHash of(InputStream in) throws IOException {
+        return HashStrategy.SHA_256.hash(in, ContentHash::new);
+    }
+
+    public static ContentHash fromBytes(HashAlgorithm algorithm, byte[] bytes) {
+        HashWords.checkLength(algorithm, bytes.length);
+        return new ContentHash(algorithm, HashWords.word(bytes, 0), HashWords.word(bytes, 1),
+                HashWords.word(bytes, 2), HashWords.word(bytes, 3));
+    }
+
+    public static ContentHash fromHex(HashAlgorithm algorithm, String hex) {
+        HashWords.checkLength(algorithm, hex.length() / 2);
+        return new ContentHash(algorithm, HashWords.word(hex, 0), HashWords.word(hex, 1),
+                HashWords.word(hex, 2), HashWords.word(hex, 3));
+    }
+
+    public byte[] toBytes() {
+        return HashWords.toBytes(algorithm, w0, w1, w2, w3);
     }
 
-    public static ContentHash of(String content) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
-            return new ContentHash(HexFormat.of().formatHex(hash));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+    // The digest is uniformly distributed, so one word is as good as all of them
+    @Override
+    public int hashCode() {
+        return Long.hashCode(w0);
     }
 
     @Override
     public String toString() {
-        return value;
+        return HashWords.toHex(algorithm, w0, w1, w2, w3);
     }
 }
@@ -0,0 +1,50 @@
+package com.webscraper.domain.valueobject;
+
+import com.webscraper.domain.exception.DomainException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object marking a position in a list ordered newest first.
+ * Holds the sort key (createdAt, id) of the last row already returned;
+ * the next page is the rows strictly after it. Clients see it only as an
+ * opaque token.
+ */
+public record Cursor(Instant createdAt, UUID id) {
+
+    private static final int TOKEN_BYTES = Long.BYTES * 3;
+
+    public Cursor {
+        Objects.requireNonNull(createdAt, "Cursor time cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public static Cursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Invalid cursor", e);
+        }
+        if (bytes.length != TOKEN_BYTES) {
+            throw new DomainException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Instant createdAt = Instant.EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        return new Cursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    // Timestamps are stored to the microsecond, so that is all the token needs
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(ChronoUnit.MICROS.between(Instant.EPOCH, createdAt))
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
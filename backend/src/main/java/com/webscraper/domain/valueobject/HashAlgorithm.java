@@ -0,0 +1,56 @@
+package com.webscraper.domain.valueobject;
+
+import java.util.Locale;
+
+/**
+ * Hash functions available for URL and content dedup keys.
+ * The id is stored next to each hash so values from different
+ * algorithms can live side by side.
+ */
+public enum HashAlgorithm {
+
+    SHA_256(1, 32, true),
+    MURMUR3_128(2, 16, false);
+
+    private final int id;
+    private final int byteLength;
+    private final boolean collisionResistant;
+
+    HashAlgorithm(int id, int byteLength, boolean collisionResistant) {
+        this.id = id;
+        this.byteLength = byteLength;
+        this.collisionResistant = collisionResistant;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public int byteLength() {
+        return byteLength;
+    }
+
+    /**
+     * Whether two inputs with the same hash can be taken to be equal even
+     * when the inputs are chosen by an attacker.
+     */
+    public boolean isCollisionResistant() {
+        return collisionResistant;
+    }
+
+    public static HashAlgorithm fromId(int id) {
+        for (HashAlgorithm algorithm : values()) {
+            if (algorithm.id == id) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown hash algorithm id: " + id);
+    }
+
+    /**
+     * Parse a configuration name such as "sha-256" or "murmur3-128".
+     */
+    public static HashAlgorithm fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
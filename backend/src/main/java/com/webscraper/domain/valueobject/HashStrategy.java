@@ -0,0 +1,38 @@
+package com.webscraper.domain.valueobject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Hash function behind UrlHash and ContentHash.
+ * Text is hashed as UTF-8; results are handed over as up to four 64-bit words
+ * (unused words are zero) so callers never allocate a digest array.
+ */
+public interface HashStrategy {
+
+    HashStrategy SHA_256 = new Sha256Strategy();
+    HashStrategy MURMUR3_128 = new Murmur3Strategy();
+
+    /**
+     * Builds a value from the algorithm and its digest words.
+     */
+    interface Words<T> {
+        T of(HashAlgorithm algorithm, long w0, long w1, long w2, long w3);
+    }
+
+    HashAlgorithm algorithm();
+
+    <T> T hash(CharSequence text, Words<T> words);
+
+    <T> T hash(ByteBuffer bytes, Words<T> words);
+
+    <T> T hash(InputStream in, Words<T> words) throws IOException;
+
+    static HashStrategy of(HashAlgorithm algorithm) {
+        return switch (algorithm) {
+            case SHA_256 -> SHA_256;
+            case MURMUR3_128 -> MURMUR3_128;
+        };
+    }
+}
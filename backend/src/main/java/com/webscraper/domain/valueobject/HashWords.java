@@ -0,0 +1,47 @@
+package com.webscraper.domain.valueobject;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.HexFormat;
+
+/**
+ * Conversions between a digest held as big-endian 64-bit words and its
+ * byte and hex forms, shared by the hash value objects.
+ */
+final class HashWords {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private HashWords() {
+    }
+
+    static long word(byte[] digest, int index) {
+        return index * Long.BYTES < digest.length ? (long) LONGS.get(digest, index * Long.BYTES) : 0L;
+    }
+
+    static long word(String hex, int index) {
+        return index * 16 < hex.length() ? HexFormat.fromHexDigitsToLong(hex, index * 16, index * 16 + 16) : 0L;
+    }
+
+    static void checkLength(HashAlgorithm algorithm, int byteLength) {
+        if (byteLength != algorithm.byteLength()) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " hash length: " + byteLength + " bytes");
+        }
+    }
+
+    static byte[] toBytes(HashAlgorithm algorithm, long w0, long w1, long w2, long w3) {
+        byte[] bytes = new byte[algorithm.byteLength()];
+        long[] words = {w0, w1, w2, w3};
+        for (int i = 0; i * Long.BYTES < bytes.length; i++) {
+            LONGS.set(bytes, i * Long.BYTES, words[i]);
+        }
+        return bytes;
+    }
+
+    static String toHex(HashAlgorithm algorithm, long w0, long w1, long w2, long w3) {
+        String hex = HEX.toHexDigits(w0) + HEX.toHexDigits(w1);
+        return algorithm.byteLength() > 16 ? hex + HEX.toHexDigits(w2) + HEX.toHexDigits(w3) : hex;
+    }
+}
@@ -0,0 +1,130 @@
+package com.webscraper.domain.valueobject;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * MurmurHash3 x64 128-bit, seed 0 (same output as Guava's murmur3_128).
+ * Much cheaper than SHA-256, but not collision resistant against crafted
+ * input, so never used for keys that address stored pages or blobs.
+ */
+final class Murmur3Strategy extends PooledHashStrategy {
+
+    private static final VarHandle LITTLE_ENDIAN_LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    @Override
+    public HashAlgorithm algorithm() {
+        return HashAlgorithm.MURMUR3_128;
+    }
+
+    @Override
+    Hasher newHasher() {
+        return new Murmur3Hasher();
+    }
+
+    private static final class Murmur3Hasher extends Hasher {
+
+        private final byte[] tail = new byte[16];
+        private int tailLength;
+        private long h1;
+        private long h2;
+        private long length;
+
+        @Override
+        void update(byte[] bytes, int offset, int count) {
+            length += count;
+            int end = offset + count;
+            if (tailLength > 0) {
+                int fill = Math.min(16 - tailLength, count);
+                System.arraycopy(bytes, offset, tail, tailLength, fill);
+                tailLength += fill;
+                offset += fill;
+                if (tailLength < 16) {
+                    return;
+                }
+                mixBlock((long) LITTLE_ENDIAN_LONGS.get(tail, 0), (long) LITTLE_ENDIAN_LONGS.get(tail, 8));
+                tailLength = 0;
+            }
+            for (; offset + 16 <= end; offset += 16) {
+                mixBlock((long) LITTLE_ENDIAN_LONGS.get(bytes, offset), (long) LITTLE_ENDIAN_LONGS.get(bytes, offset + 8));
+            }
+            tailLength = end - offset;
+            System.arraycopy(bytes, offset, tail, 0, tailLength);
+        }
+
+        @Override
+        void update(ByteBuffer bytes) {
+            if (bytes.hasArray()) {
+                update(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+                return;
+            }
+            while (bytes.hasRemaining()) {
+                int count = Math.min(buffer.length, bytes.remaining());
+                bytes.get(buffer, 0, count);
+                update(buffer, 0, count);
+            }
+        }
+
+        @Override
+        <T> T finish(HashAlgorithm algorithm, Words<T> words) {
+            long k1 = 0;
+            long k2 = 0;
+            for (int i = tailLength - 1; i >= 8; i--) {
+                k2 = k2 << 8 | (tail[i] & 0xFFL);
+            }
+            for (int i = Math.min(tailLength, 8) - 1; i >= 0; i--) {
+                k1 = k1 << 8 | (tail[i] & 0xFFL);
+            }
+            if (tailLength > 8) {
+                h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+            }
+            if (tailLength > 0) {
+                h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+            }
+
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+            return words.of(algorithm, h1, h2, 0, 0);
+        }
+
+        @Override
+        void reset() {
+            tailLength = 0;
+            h1 = 0;
+            h2 = 0;
+            length = 0;
+        }
+
+        private void mixBlock(long k1, long k2) {
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.webscraper.domain.valueobject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Base for hash strategies that keep reusable hasher state in a pool.
+ *
+ * Hashing borrows a hasher with its buffers, encodes text to UTF-8 chunk by
+ * chunk into a reused buffer and hands the result over as words, so hashing
+ * a large page does not copy it into a byte array first. A pool is used
+ * rather than thread locals because scrapes run on short-lived virtual threads.
+ */
+abstract class PooledHashStrategy implements HashStrategy {
+
+    private static final int CHUNK_CHARS = 8 * 1024;
+
+    private final BlockingQueue<Hasher> pool = new ArrayBlockingQueue<>(64);
+
+    /**
+     * Incremental state of one hash computation; used by one caller at a time.
+     */
+    abstract static class Hasher {
+
+        private final char[] chars = new char[CHUNK_CHARS];
+        final byte[] buffer = new byte[CHUNK_CHARS * 3];
+
+        abstract void update(byte[] bytes, int offset, int length);
+
+        abstract void update(ByteBuffer bytes);
+
+        abstract <T> T finish(HashAlgorithm algorithm, Words<T> words);
+
+        abstract void reset();
+
+        /**
+         * Same bytes as {@code text.toString().getBytes(UTF_8)}, including
+         * '?' for unpaired surrogates, so stored hashes stay comparable.
+         */
+        void update(CharSequence text) {
+            int length = text.length();
+            int position = 0;
+            while (position < length) {
+                int count = Math.min(CHUNK_CHARS, length - position);
+                copy(text, position, position + count);
+                // Keep a surrogate pair together by leaving a trailing high surrogate for the next chunk
+                if (position + count < length && Character.isHighSurrogate(chars[count - 1])) {
+                    count--;
+                }
+                update(buffer, 0, encodeUtf8(count));
+                position += count;
+            }
+        }
+
+        private int encodeUtf8(int count) {
+            byte[] out = buffer;
+            int j = 0;
+            for (int i = 0; i < count; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    out[j++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[j++] = (byte) (0xC0 | c >> 6);
+                    out[j++] = (byte) (0x80 | c & 0x3F);
+                } else if (!Character.isSurrogate(c)) {
+                    out[j++] = (byte) (0xE0 | c >> 12);
+                    out[j++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    out[j++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars[i + 1])) {
+                    int codePoint = Character.toCodePoint(c, chars[++i]);
+                    out[j++] = (byte) (0xF0 | codePoint >> 18);
+                    out[j++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    out[j++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[j++] = (byte) (0x80 | codePoint & 0x3F);
+                } else {
+                    out[j++] = '?';
+                }
+            }
+            return j;
+        }
+
+        private void copy(CharSequence text, int from, int to) {
+            if (text instanceof String s) {
+                s.getChars(from, to, chars, 0);
+            } else if (text instanceof StringBuilder sb) {
+                sb.getChars(from, to, chars, 0);
+            } else {
+                for (int i = from; i < to; i++) {
+                    chars[i - from] = text.charAt(i);
+                }
+            }
+        }
+    }
+
+    abstract Hasher newHasher();
+
+    @Override
+    public <T> T hash(CharSequence text, Words<T> words) {
+        Hasher hasher = acquire();
+        try {
+            hasher.update(text);
+            return hasher.finish(algorithm(), words);
+        } finally {
+            release(hasher);
+        }
+    }
+
+    @Override
+    public <T> T hash(ByteBuffer bytes, Words<T> words) {
+        Hasher hasher = acquire();
+        try {
+            hasher.update(bytes);
+            return hasher.finish(algorithm(), words);
+        } finally {
+            release(hasher);
+        }
+    }
+
+    @Override
+    public <T> T hash(InputStream in, Words<T> words) throws IOException {
+        Hasher hasher = acquire();
+        try {
+            int n;
+            while ((n = in.read(hasher.buffer)) != -1) {
+                hasher.update(hasher.buffer, 0, n);
+            }
+            return hasher.finish(algorithm(), words);
+        } finally {
+            release(hasher);
+        }
+    }
+
+    private Hasher acquire() {
+        Hasher hasher = pool.poll();
+        return hasher != null ? hasher : newHasher();
+    }
+
+    private void release(Hasher hasher) {
+        hasher.reset();
+        pool.offer(hasher);
+    }
+}
@@ -0,0 +1,30 @@
+package com.webscraper.domain.valueobject;
+
+/**
+ * Value object describing how long a target's page versions are kept.
+ * A version expires once it is older than {@code keepDays} and not among
+ * its page's newest {@code keepVersions}; either limit may be null for no
+ * limit. The newest version of a page never expires.
+ */
+public record RetentionPolicy(
+    Integer keepVersions,
+    Integer keepDays
+) {
+    
+    public RetentionPolicy {
+        if (keepVersions != null && keepVersions < 1) {
+            throw new IllegalArgumentException("Retention must keep at least one version");
+        }
+        if (keepDays != null && keepDays < 1) {
+            throw new IllegalArgumentException("Retention must keep versions for at least one day");
+        }
+    }
+
+    public static RetentionPolicy keepAll() {
+        return new RetentionPolicy(null, null);
+    }
+
+    public boolean keepsAll() {
+        return keepVersions == null && keepDays == null;
+    }
+}
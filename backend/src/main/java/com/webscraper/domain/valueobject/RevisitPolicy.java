@@ -0,0 +1,36 @@
+package com.webscraper.domain.valueobject;
+
+import java.time.Duration;
+
+/**
+ * Value object deciding how long to wait before revisiting a page.
+ * Volatile pages are revisited about once per expected change, bounded
+ * by a floor and a ceiling; pages without history use the initial interval.
+ */
+public record RevisitPolicy(
+    Duration minInterval,
+    Duration maxInterval,
+    Duration initialInterval
+) {
+    
+    public RevisitPolicy {
+        if (minInterval.compareTo(maxInterval) > 0) {
+            throw new IllegalArgumentException("Minimum revisit interval exceeds maximum");
+        }
+    }
+
+    public static RevisitPolicy defaults() {
+        return new RevisitPolicy(Duration.ofHours(1), Duration.ofDays(30), Duration.ofDays(1));
+    }
+
+    public Duration nextInterval(ChangeRate rate) {
+        if (rate == null) {
+            return initialInterval;
+        }
+        Duration expected = rate.meanTimeBetweenChanges();
+        if (expected == null || expected.compareTo(maxInterval) > 0) {
+            return maxInterval;
+        }
+        return expected.compareTo(minInterval) < 0 ? minInterval : expected;
+    }
+}
@@ -0,0 +1,63 @@
+package com.webscraper.domain.valueobject;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 through the JDK provider. Collision resistant, but several times
+ * slower than a non-cryptographic hash on large pages.
+ */
+final class Sha256Strategy extends PooledHashStrategy {
+
+    @Override
+    public HashAlgorithm algorithm() {
+        return HashAlgorithm.SHA_256;
+    }
+
+    @Override
+    Hasher newHasher() {
+        return new Sha256Hasher();
+    }
+
+    private static final class Sha256Hasher extends Hasher {
+
+        private final MessageDigest digest;
+        private final byte[] result = new byte[32];
+
+        Sha256Hasher() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("SHA-256 not available", e);
+            }
+        }
+
+        @Override
+        void update(byte[] bytes, int offset, int length) {
+            digest.update(bytes, offset, length);
+        }
+
+        @Override
+        void update(ByteBuffer bytes) {
+            digest.update(bytes);
+        }
+
+        @Override
+        <T> T finish(HashAlgorithm algorithm, Words<T> words) {
+            try {
+                digest.digest(result, 0, result.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            return words.of(algorithm, HashWords.word(result, 0), HashWords.word(result, 1),
+                    HashWords.word(result, 2), HashWords.word(result, 3));
+        }
+
+        @Override
+        void reset() {
+            digest.reset();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.webscraper.domain.valueobject;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Value object representing a 64-bit SimHash fingerprint of page text.
+ * Pages that differ only in small details (timestamps, tokens, ad slots)
+ * get fingerprints a few bits apart, unlike ContentHash.
+ *
+ * Dates, times and token-like strings are masked before hashing, so they do
+ * not count as changes at all. Other numbers are kept: a changed price,
+ * score or stock level is a real change.
+ */
+public record SimHash(long value) {
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style|noscript)\\b.*?</\\1\\s*>");
+    private static final Pattern COMMENT = Pattern.compile("(?s)<!--.*?-->");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&[#a-zA-Z0-9]+;");
+    private static final String MONTH = "(?:jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)[a-z]*\\.?";
+    // Applied to lower-cased text: ISO and numeric dates, dates with month names,
+    // clock times, "5 minutes ago", and long mixed letter/digit strings (ids, CSRF tokens)
+    private static final Pattern VOLATILE = Pattern.compile(String.join("|",
+            "\\b\\d{4}-\\d{1,2}-\\d{1,2}(?:[t ]\\d{1,2}:\\d{2}(?::\\d{2}(?:\\.\\d+)?)?(?:z|[+-]\\d{2}:?\\d{2})?)?",
+            "\\b\\d{1,2}[./-]\\d{1,2}[./-]\\d{2,4}\\b",
+            "\\b\\d{1,2}(?:st|nd|rd|th)?\\s+" + MONTH + ",?\\s+\\d{4}\\b",
+            "\\b" + MONTH + "\\s+\\d{1,2}(?:st|nd|rd|th)?,?\\s+\\d{4}\\b",
+            "\\b\\d{1,2}:\\d{2}(?::\\d{2})?(?:\\s?[ap]\\.?m\\b\\.?)?",
+            "\\b\\d+\\s+(?:sec|second|min|minute|hr|hour|day|week|month|year)s?\\s+ago\\b",
+            "\\b(?=[\\p{L}\\p{Nd}_-]*\\p{Nd})(?=[\\p{L}\\p{Nd}_-]*\\p{L})[\\p{L}\\p{Nd}_-]{16,}"));
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}#]+");
+
+    private static final int SHINGLE_SIZE = 3;
+
+    /**
+     * @return empty when the page has no visible text (e.g. the shell of a
+     *         JavaScript app): such pages would all share one fingerprint
+     */
+    public static Optional<SimHash> of(String html) {
+        String[] tokens = normalize(html);
+        if (tokens.length == 0) {
+            return Optional.empty();
+        }
+        int[] weights = new int[64];
+
+        if (tokens.length < SHINGLE_SIZE) {
+            for (String token : tokens) {
+                accumulate(weights, hash(token));
+            }
+        } else {
+            for (int i = 0; i + SHINGLE_SIZE <= tokens.length; i++) {
+                long h = hash(tokens[i]);
+                for (int j = 1; j < SHINGLE_SIZE; j++) {
+                    h = mix(h * 31 + hash(tokens[i + j]));
+                }
+                accumulate(weights, h);
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return Optional.of(new SimHash(fingerprint));
+    }
+
+    public int distanceTo(SimHash other) {
+        return Long.bitCount(value ^ other.value);
+    }
+
+    public boolean isNearDuplicateOf(SimHash other, int maxDistance) {
+        return distanceTo(other) <= maxDistance;
+    }
+
+    /**
+     * One of {@code count} equal-width bit bands, used for index lookups.
+     * By pigeonhole, fingerprints within distance {@code count - 1} share at least one band.
+     */
+    public int band(int index, int count) {
+        int width = 64 / count;
+        return (int) ((value >>> (64 - width * (index + 1))) & ((1L << width) - 1));
+    }
+
+    // Visible text only, with volatile values masked as '#'
+    private static String[] normalize(String html) {
+        String text = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        text = COMMENT.matcher(text).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = ENTITY.matcher(text).replaceAll(" ");
+        text = VOLATILE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("#");
+        text = NON_WORD.matcher(text).replaceAll(" ").trim();
+        return text.isEmpty() ? new String[0] : text.split(" ");
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a over chars, finished with a 64-bit mixer for an even bit spread
+    private static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", value);
+    }
+}
@@ -1,33 +1,59 @@
 package com.webscraper.domain.valueobject;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
  * Value object representing a URL hash.
  * Used for fast URL lookup/deduplication.
+ * Held as up to four 64-bit words and stored as BYTEA together with the
+ * algorithm that produced it, so hashes from different algorithms coexist.
  */
-public record UrlHash(String value) {
-    
+public record UrlHash(HashAlgorithm algorithm, long w0, long w1, long w2, long w3) {
+
     public UrlHash {
-        Objects.requireNonNull(value, "Hash value cannot be null");
+        Objects.requireNonNull(algorithm, "Hash algorithm cannot be null");
+    }
+
+    /**
+     * Hash with SHA-256. Hashes that are stored are computed through ContentHasher.
+     */
+    public static UrlHash of(CharSequence url) {
+        return HashStrategy.SHA_256.hash(url, UrlHash::new);
+    }
+
+    public static UrlHash of(CharSequence url, HashAlgorithm algorithm) {
+        return HashStrategy.of(algorithm).hash(url, UrlHash::new);
+    }
+
+    public static UrlHash of(ByteBuffer bytes) {
+        return HashStrategy.SHA_256.hash(bytes, UrlHash::new);
     }
 
-    public static UrlHash of(String url) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
-            return new UrlHash(HexFormat.of().formatHex(hash));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+    public static UrlHash fromBytes(HashAlgorithm algorithm, byte[] bytes) {
+        HashWords.checkLength(algorithm, bytes.length);
+        return new UrlHash(algorithm, HashWords.word(bytes, 0), HashWords.word(bytes, 1),
+                HashWords.word(bytes, 2), HashWords.word(bytes, 3));
+    }
+
+    public static UrlHash fromHex(HashAlgorithm algorithm, String hex) {
+        HashWords.checkLength(algorithm, hex.length() / 2);
+        return new UrlHash(algorithm, HashWords.word(hex, 0), HashWords.word(hex, 1),
+                HashWords.word(hex, 2), HashWords.word(hex, 3));
+    }
+
+    public byte[] toBytes() {
+        return HashWords.toBytes(algorithm, w0, w1, w2, w3);
+    }
+
+    // The digest is uniformly distributed, so one word is as good as all of them
+    @Override
+    public int hashCode() {
+        return Long.hashCode(w0);
     }
 
     @Override
     public String toString() {
-        return value;
+        return HashWords.toHex(algorithm, w0, w1, w2, w3);
     }
 }
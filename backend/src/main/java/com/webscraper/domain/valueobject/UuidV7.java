@@ -0,0 +1,49 @@
+package com.webscraper.domain.valueobject;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562) for entity ids.
+ *
+ * The first 48 bits are the Unix time in milliseconds, so new ids sort after
+ * older ones and inserts go to the right edge of primary key indexes instead
+ * of a random leaf. The 12 bits after the version are a counter within the
+ * millisecond, which keeps ids from one process strictly increasing; when it
+ * runs out, the timestamp is borrowed from the next millisecond. The last
+ * 62 bits are random.
+ *
+ * Lock-free: the timestamp and counter are advanced together with one CAS.
+ * The random bits come from ThreadLocalRandom, so ids are unique but not
+ * unguessable; they must not be used as secrets.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    // A new millisecond starts the counter at a random value below this, leaving room to count up
+    private static final int COUNTER_START_BOUND = 1 << (COUNTER_BITS - 2);
+
+    // Timestamp in milliseconds shifted left by COUNTER_BITS, plus the counter
+    private static final AtomicLong last = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long previous;
+        long current;
+        do {
+            previous = last.get();
+            current = now > previous ? now | random.nextInt(COUNTER_START_BOUND) : previous + 1;
+        } while (!last.compareAndSet(previous, current));
+
+        long millis = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long msb = millis << 16 | 0x7000L | counter;
+        long lsb = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
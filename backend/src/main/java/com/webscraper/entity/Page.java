@@ -8,7 +8,8 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "pages")
+@Table(name = "pages", uniqueConstraints = @UniqueConstraint(
+        name = "uk_pages_target_url_hash", columnNames = {"target_id", "url_hash"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,8 +32,8 @@ public class Page {
     @Column(nullable = false)
     private String url;
     
-    @Column(name = "url_hash", nullable = false, unique = true)
-    private String urlHash;
+    @Column(name = "url_hash", nullable = false, length = 32)
+    private byte[] urlHash;
     
     @Column(name = "last_scraped_at")
     private Instant lastScrapedAt;
@@ -28,11 +28,11 @@ public class PageVersion {
     @JoinColumn(name = "job_id")
     private ScrapeJob job;
     
-    @Column(name = "raw_html", nullable = false, columnDefinition = "TEXT")
-    private String rawHtml;
+    // raw_html is deliberately not mapped: loading a version must not pull in
+    // megabytes of HTML. Read it with PageVersionRepository.findRawHtmlById.
     
-    @Column(name = "content_hash", nullable = false)
-    private String contentHash;
+    @Column(name = "content_hash", nullable = false, length = 32)
+    private byte[] contentHash;
     
     @Column(name = "http_status")
     @Builder.Default
@@ -0,0 +1,27 @@
+package com.webscraper.infrastructure.config;
+
+import com.webscraper.infrastructure.persistence.counter.CounterStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Maintained row counts.
+ */
+@Configuration
+public class CounterConfig {
+
+    @Value("${counters.cache-ttl-seconds:0}")
+    private long cacheTtlSeconds;
+
+    @Value("${counters.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Bean
+    public CounterStore counterStore(JdbcTemplate jdbcTemplate) {
+        return new CounterStore(jdbcTemplate, Duration.ofSeconds(cacheTtlSeconds), cacheMaxEntries);
+    }
+}
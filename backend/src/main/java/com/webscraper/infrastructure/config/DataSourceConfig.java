@@ -0,0 +1,98 @@
+package com.webscraper.infrastructure.config;
+
+import com.webscraper.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.webscraper.infrastructure.persistence.routing.UseCaseTransactionPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary database plus optional read replicas. Read-only transactions go to
+ * a replica that is caught up; everything else goes to the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    // Comma-separated JDBC URLs; empty means no replicas
+    @Value("${datasource.replicas.urls:}")
+    private String replicaUrls;
+
+    @Value("${datasource.replicas.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    @Value("${datasource.replicas.check-interval-ms:1000}")
+    private long checkIntervalMs;
+
+    @Value("${datasource.replicas.pool-size:10}")
+    private int replicaPoolSize;
+
+    // Kept short so an unreachable replica is skipped quickly instead of stalling the lag check
+    @Value("${datasource.replicas.connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${datasource.replicas.check-timeout-ms:1000}")
+    private long checkTimeoutMs;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary, DataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls.split(",")) {
+            if (!url.isBlank()) {
+                replicas.add(replica(url.trim(), replicas.size(), primary, properties));
+            }
+        }
+        return new ReplicaRoutingDataSource(primary, replicas,
+                Duration.ofMillis(maxLagMs), Duration.ofMillis(checkIntervalMs), Duration.ofMillis(checkTimeoutMs));
+    }
+
+    // The routing data source can only see whether a transaction is read-only once it has begun
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public static UseCaseTransactionPostProcessor useCaseTransactionPostProcessor(
+            ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new UseCaseTransactionPostProcessor(transactionManager);
+    }
+
+    // Starts from the primary's spring.datasource.hikari settings (validation, lifetimes, ...)
+    private HikariDataSource replica(String url, int index, HikariDataSource primary,
+                                     DataSourceProperties properties) {
+        HikariDataSource replica = new HikariDataSource();
+        primary.copyStateTo(replica);
+        replica.setJdbcUrl(url);
+        replica.setUsername(properties.determineUsername());
+        replica.setPassword(properties.determinePassword());
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+        // Hikari's floor for the validation timeout is 250 ms
+        replica.setValidationTimeout(Math.min(replica.getValidationTimeout(),
+                Math.max(250, replicaConnectionTimeoutMs / 2)));
+        replica.setReadOnly(true);
+        replica.setPoolName("replica-" + index);
+        return replica;
+    }
+}
@@ -0,0 +1,21 @@
+package com.webscraper.infrastructure.config;
+
+import com.webscraper.domain.service.ContentHasher;
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the hash algorithms used for new URL and content hashes.
+ * Existing rows keep the algorithm they were written with.
+ */
+@Configuration
+public class HashingConfig {
+
+    @Bean
+    public ContentHasher contentHasher(@Value("${hashing.url-algorithm:sha-256}") String urlAlgorithm,
+                                       @Value("${hashing.content-algorithm:sha-256}") String contentAlgorithm) {
+        return new ContentHasher(HashAlgorithm.fromName(urlAlgorithm), HashAlgorithm.fromName(contentAlgorithm));
+    }
+}
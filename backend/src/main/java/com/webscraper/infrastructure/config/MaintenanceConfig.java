@@ -0,0 +1,43 @@
+package com.webscraper.infrastructure.config;
+
+import com.webscraper.infrastructure.persistence.maintenance.PageVersionCompactor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Background database maintenance.
+ */
+@Configuration
+public class MaintenanceConfig {
+
+    @Value("${maintenance.page-versions.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${maintenance.page-versions.initial-delay-minutes:5}")
+    private long initialDelayMinutes;
+
+    @Value("${maintenance.page-versions.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    @Value("${maintenance.page-versions.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${maintenance.page-versions.archive-after-months:0}")
+    private int archiveAfterMonths;
+
+    @Bean
+    public PageVersionCompactor pageVersionCompactor(JdbcTemplate jdbcTemplate) {
+        return new PageVersionCompactor(
+                jdbcTemplate,
+                partitionsAhead,
+                batchSize,
+                archiveAfterMonths,
+                Duration.ofMinutes(initialDelayMinutes),
+                Duration.ofMinutes(intervalMinutes)
+        );
+    }
+}
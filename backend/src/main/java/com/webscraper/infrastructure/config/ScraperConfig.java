@@ -0,0 +1,133 @@
+package com.webscraper.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webscraper.application.port.out.CrawlStateStore;
+import com.webscraper.application.port.out.JobQueue;
+import com.webscraper.application.port.out.ScraperGateway;
+import com.webscraper.application.usecase.job.RunScrapeJobUseCase;
+import com.webscraper.infrastructure.external.queue.ScrapeJobWorker;
+import com.webscraper.infrastructure.external.scraper.CircuitBreakingScraperGateway;
+import com.webscraper.infrastructure.external.scraper.EngineRoutingScraperGateway;
+import com.webscraper.infrastructure.external.scraper.HttpScraperGateway;
+import com.webscraper.infrastructure.external.scraper.JsShellDetector;
+import com.webscraper.infrastructure.external.scraper.StaticPageFetcher;
+import com.webscraper.infrastructure.persistence.checkpoint.MappedCrawlStateStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Scraper service client configuration.
+ * Requests go through the per-host circuit breaker, then the static-first
+ * engine router, and only reach the Python service when a browser is needed.
+ */
+@Configuration
+public class ScraperConfig {
+
+    @Value("${scraper.base-url:http://localhost:5000}")
+    private String baseUrl;
+
+    @Value("${scraper.timeout-ms:30000}")
+    private long timeoutMs;
+
+    @Value("${scraper.batch.size:50}")
+    private int batchSize;
+
+    @Value("${scraper.batch.max-in-flight:4}")
+    private int maxBatchesInFlight;
+
+    @Value("${scraper.routing.static-first:true}")
+    private boolean staticFirst;
+
+    @Value("${scraper.routing.min-text-length:200}")
+    private int minTextLength;
+
+    @Value("${scraper.routing.min-text-density:0.02}")
+    private double minTextDensity;
+
+    @Value("${scraper.routing.max-static-in-flight:32}")
+    private int maxStaticInFlight;
+
+    @Value("${scraper.routing.browser-route-ttl-minutes:60}")
+    private long browserRouteTtlMinutes;
+
+    @Value("${scraper.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${scraper.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${scraper.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${scraper.circuit-breaker.open-duration-ms:60000}")
+    private long openDurationMs;
+
+    @Value("${scraper.circuit-breaker.half-open-permits:3}")
+    private int halfOpenPermits;
+
+    @Value("${scraper.worker.threads:2}")
+    private int workerThreads;
+
+    @Value("${scraper.checkpoint.directory:./data/crawl-state}")
+    private String checkpointDirectory;
+
+    @Value("${scraper.checkpoint.segment-size-mb:64}")
+    private int checkpointSegmentSizeMb;
+
+    @Value("${scraper.checkpoint.interval-ms:5000}")
+    private long checkpointIntervalMs;
+
+    @Bean
+    public HttpClient scraperHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Bean
+    public ScraperGateway scraperGateway(HttpClient scraperHttpClient, ObjectMapper objectMapper) {
+        ScraperGateway gateway = new HttpScraperGateway(
+                scraperHttpClient,
+                objectMapper,
+                baseUrl,
+                Duration.ofMillis(timeoutMs),
+                batchSize,
+                maxBatchesInFlight
+        );
+        if (staticFirst) {
+            var fetcher = new StaticPageFetcher(scraperHttpClient, Duration.ofMillis(timeoutMs));
+            gateway = new EngineRoutingScraperGateway(gateway, fetcher,
+                    new JsShellDetector(minTextLength, minTextDensity),
+                    maxStaticInFlight, Duration.ofMinutes(browserRouteTtlMinutes));
+        }
+        var settings = new CircuitBreakingScraperGateway.Settings(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                Duration.ofMillis(openDurationMs),
+                halfOpenPermits
+        );
+        return new CircuitBreakingScraperGateway(gateway, settings);
+    }
+
+    @Bean
+    public ScrapeJobWorker scrapeJobWorker(JobQueue jobQueue, RunScrapeJobUseCase runScrapeJobUseCase) {
+        return new ScrapeJobWorker(jobQueue, runScrapeJobUseCase, workerThreads);
+    }
+
+    @Bean
+    public CrawlStateStore crawlStateStore() {
+        return new MappedCrawlStateStore(
+                Path.of(checkpointDirectory),
+                checkpointSegmentSizeMb * 1024 * 1024,
+                Duration.ofMillis(checkpointIntervalMs)
+        );
+    }
+}
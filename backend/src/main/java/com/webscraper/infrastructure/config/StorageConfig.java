@@ -0,0 +1,42 @@
+package com.webscraper.infrastructure.config;
+
+import com.webscraper.application.port.out.BlobStore;
+import com.webscraper.infrastructure.storage.FileSystemBlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Storage for page bodies kept outside Postgres.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Value("${storage.blobs.directory:./data/blobs}")
+    private String blobDirectory;
+
+    @Value("${storage.blobs.compression-level:6}")
+    private int compressionLevel;
+
+    @Value("${storage.blobs.dictionary.train-after:50}")
+    private int dictionaryTrainAfter;
+
+    @Value("${storage.blobs.dictionary.max-sample-kb:256}")
+    private int dictionaryMaxSampleKb;
+
+    @Value("${storage.blobs.delta.keyframe-interval:16}")
+    private int deltaKeyframeInterval;
+
+    @Bean
+    public BlobStore blobStore() {
+        return new FileSystemBlobStore(
+                Path.of(blobDirectory),
+                compressionLevel,
+                dictionaryTrainAfter,
+                dictionaryMaxSampleKb * 1024,
+                deltaKeyframeInterval
+        );
+    }
+}
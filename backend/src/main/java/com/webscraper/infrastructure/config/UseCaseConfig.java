@@ -1,10 +1,13 @@
 package com.webscraper.infrastructure.config;
 
+import com.webscraper.application.port.out.BlobStore;
 import com.webscraper.application.port.out.ExportService;
 import com.webscraper.application.port.out.JobQueue;
 import com.webscraper.application.port.out.JobRepository;
 import com.webscraper.application.port.out.PageRepository;
+import com.webscraper.application.port.out.PageVersionRepository;
 import com.webscraper.application.port.out.PasswordEncoder;
+import com.webscraper.application.port.out.ScraperGateway;
 import com.webscraper.application.port.out.TargetRepository;
 import com.webscraper.application.port.out.UserRepository;
 import com.webscraper.application.usecase.auth.LoginUserUseCase;
@@ -14,12 +17,22 @@ import com.webscraper.application.usecase.job.CancelJobUseCase;
 import com.webscraper.application.usecase.job.CreateJobUseCase;
 import com.webscraper.application.usecase.job.GetJobUseCase;
 import com.webscraper.application.usecase.job.ListJobsUseCase;
+import com.webscraper.application.usecase.job.RunScrapeJobUseCase;
+import com.webscraper.application.usecase.scrape.GetPageContentUseCase;
+import com.webscraper.application.usecase.scrape.ListDuePagesUseCase;
+import com.webscraper.application.usecase.scrape.RecordPageVersionUseCase;
+import com.webscraper.application.usecase.scrape.RegisterDiscoveredPagesUseCase;
 import com.webscraper.application.usecase.targets.CreateTargetUseCase;
 import com.webscraper.application.usecase.targets.GetTargetUseCase;
 import com.webscraper.application.usecase.targets.ListTargetsUseCase;
+import com.webscraper.domain.service.ContentHasher;
+import com.webscraper.domain.valueobject.RevisitPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Spring configuration for wiring use-cases with their dependencies.
  */
@@ -71,10 +84,56 @@ public class UseCaseConfig {
         return new CancelJobUseCase(jobRepository);
     }
 
+    @Bean
+    public RunScrapeJobUseCase runScrapeJobUseCase(JobRepository jobRepository, TargetRepository targetRepository,
+                                                   PageRepository pageRepository, ScraperGateway scraperGateway,
+                                                   JobQueue jobQueue, RecordPageVersionUseCase recordPageVersionUseCase,
+                                                   @Value("${scraper.worker.page-budget:100}") int pageBudget) {
+        return new RunScrapeJobUseCase(jobRepository, targetRepository, pageRepository, scraperGateway, jobQueue,
+                recordPageVersionUseCase, pageBudget);
+    }
+
     @Bean
     public ExportDataUseCase exportDataUseCase(PageRepository pageRepository, TargetRepository targetRepository, 
                                                 ExportService exportService) {
         return new ExportDataUseCase(pageRepository, targetRepository, exportService);
     }
-}
 
+    @Bean
+    public RecordPageVersionUseCase recordPageVersionUseCase(PageRepository pageRepository,
+                                                             PageVersionRepository pageVersionRepository,
+                                                             BlobStore blobStore,
+                                                             @Value("${scraper.dedup.max-sim-distance:3}") int maxSimHashDistance,
+                                                             RevisitPolicy revisitPolicy,
+                                                             ContentHasher contentHasher) {
+        return new RecordPageVersionUseCase(pageRepository, pageVersionRepository, blobStore,
+                maxSimHashDistance, revisitPolicy, contentHasher);
+    }
+
+    @Bean
+    public GetPageContentUseCase getPageContentUseCase(PageVersionRepository pageVersionRepository, BlobStore blobStore) {
+        return new GetPageContentUseCase(pageVersionRepository, blobStore);
+    }
+
+    @Bean
+    public ListDuePagesUseCase listDuePagesUseCase(PageRepository pageRepository) {
+        return new ListDuePagesUseCase(pageRepository);
+    }
+
+    @Bean
+    public RegisterDiscoveredPagesUseCase registerDiscoveredPagesUseCase(PageRepository pageRepository,
+                                                                         ContentHasher contentHasher) {
+        return new RegisterDiscoveredPagesUseCase(pageRepository, contentHasher);
+    }
+
+    @Bean
+    public RevisitPolicy revisitPolicy(@Value("${scraper.revisit.min-interval-minutes:60}") long minIntervalMinutes,
+                                       @Value("${scraper.revisit.max-interval-minutes:43200}") long maxIntervalMinutes,
+                                       @Value("${scraper.revisit.initial-interval-minutes:1440}") long initialIntervalMinutes) {
+        return new RevisitPolicy(
+                Duration.ofMinutes(minIntervalMinutes),
+                Duration.ofMinutes(maxIntervalMinutes),
+                Duration.ofMinutes(initialIntervalMinutes)
+        );
+    }
+}
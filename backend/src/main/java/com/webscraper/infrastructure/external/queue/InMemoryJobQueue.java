@@ -4,8 +4,12 @@ import com.webscraper.application.port.out.JobQueue;
 import com.webscraper.domain.entity.ScrapeJob;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * In-memory job queue for development.
@@ -15,6 +19,11 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class InMemoryJobQueue implements JobQueue {
     
     private final BlockingQueue<ScrapeJob> queue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService parking = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "job-queue-parking");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Override
     public void enqueue(ScrapeJob job) {
@@ -40,4 +49,13 @@ public class InMemoryJobQueue implements JobQueue {
     public void requeue(ScrapeJob job) {
         queue.offer(job);
     }
+
+    @Override
+    public void requeue(ScrapeJob job, Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            queue.offer(job);
+            return;
+        }
+        parking.schedule(() -> queue.offer(job), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
 }
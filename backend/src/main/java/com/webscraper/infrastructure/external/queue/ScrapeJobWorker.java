@@ -0,0 +1,62 @@
+package com.webscraper.infrastructure.external.queue;
+
+import com.webscraper.application.port.out.JobQueue;
+import com.webscraper.application.usecase.job.RunScrapeJobUseCase;
+import com.webscraper.domain.entity.ScrapeJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Takes jobs off the queue and runs them, one job per thread at a time.
+ * Parking and requeueing are up to the use case; this only keeps the
+ * threads alive when a run throws.
+ */
+public class ScrapeJobWorker implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeJobWorker.class);
+
+    private final JobQueue jobQueue;
+    private final RunScrapeJobUseCase runScrapeJob;
+    private final ExecutorService threads;
+    private volatile boolean running = true;
+
+    public ScrapeJobWorker(JobQueue jobQueue, RunScrapeJobUseCase runScrapeJob, int threadCount) {
+        this.jobQueue = jobQueue;
+        this.runScrapeJob = runScrapeJob;
+        AtomicInteger number = new AtomicInteger();
+        this.threads = Executors.newFixedThreadPool(Math.max(threadCount, 1), r -> {
+            Thread thread = new Thread(r, "scrape-job-worker-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threadCount; i++) {
+            threads.execute(this::work);
+        }
+    }
+
+    private void work() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            ScrapeJob job = jobQueue.dequeue();
+            if (job == null) {
+                continue;
+            }
+            try {
+                var result = runScrapeJob.execute(new RunScrapeJobUseCase.Command(job));
+                log.debug("Job {} {}: {} of {} pages scraped",
+                        job.getId(), result.outcome(), result.pagesScraped(), result.pagesFound());
+            } catch (RuntimeException e) {
+                log.warn("Running job {} failed", job.getId(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        threads.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.webscraper.infrastructure.external.scraper;
+
+/**
+ * Magic-number sniffing for binary payloads served under a text content type.
+ */
+final class BinarySignatures {
+
+    private BinarySignatures() {}
+
+    /**
+     * @return a short name of the binary format, or null if the bytes look like text
+     */
+    static String detect(byte[] head) {
+        if (startsWith(head, "%PDF")) return "pdf";
+        if (startsWith(head, 'P', 'K', 0x03, 0x04)) return "zip";
+        if (startsWith(head, 0x89, 'P', 'N', 'G')) return "png";
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) return "jpeg";
+        if (startsWith(head, "GIF8")) return "gif";
+        if (startsWith(head, "RIFF")) return "riff";
+        if (startsWith(head, "OggS")) return "ogg";
+        if (startsWith(head, "ID3")) return "mp3";
+        if (startsWith(head, 0x1A, 0x45, 0xDF, 0xA3)) return "webm";
+        if (startsWith(head, 0x1F, 0x8B)) return "gzip";
+        if (head.length >= 8 && head[4] == 'f' && head[5] == 't' && head[6] == 'y' && head[7] == 'p') return "mp4";
+
+        // Text never contains NUL bytes in its first few characters (UTF-16 aside)
+        for (byte b : head) {
+            if (b == 0) {
+                return "unknown";
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, String prefix) {
+        if (head.length < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (head[i] != (byte) prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] head, int... prefix) {
+        if (head.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (head[i] != (byte) prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
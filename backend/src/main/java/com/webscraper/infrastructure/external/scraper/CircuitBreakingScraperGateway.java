@@ -0,0 +1,175 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import com.webscraper.application.port.out.ScraperGateway;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * Decorator that puts a per-host circuit breaker in front of a ScraperGateway.
+ * Once a host fails too often, calls to it are refused with
+ * HostUnavailableException until the cool-down has passed.
+ */
+public class CircuitBreakingScraperGateway implements ScraperGateway {
+
+    private final ScraperGateway delegate;
+    private final Settings settings;
+    private final Clock clock;
+    private final Map<String, HostCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public record Settings(
+        int windowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration openDuration,
+        int halfOpenPermits
+    ) {
+        public Settings {
+            if (windowSize < 1 || minimumCalls < 1 || halfOpenPermits < 1) {
+                throw new IllegalArgumentException("Window size, minimum calls and half-open permits must be positive");
+            }
+            if (minimumCalls > windowSize) {
+                throw new IllegalArgumentException("Minimum calls cannot exceed the window size, the breaker would never open");
+            }
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(20, 10, 0.5, Duration.ofSeconds(60), 3);
+        }
+    }
+
+    public CircuitBreakingScraperGateway(ScraperGateway delegate, Settings settings) {
+        this(delegate, settings, Clock.systemUTC());
+    }
+
+    public CircuitBreakingScraperGateway(ScraperGateway delegate, Settings settings, Clock clock) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    @Override
+    public ScrapingResult scrape(ScrapeRequest request) {
+        String host = hostOf(request.url());
+        HostCircuitBreaker breaker = breakerFor(host);
+
+        Instant now = clock.instant();
+        if (!breaker.tryAcquire(now)) {
+            throw new HostUnavailableException(host, retryAfter(breaker, now));
+        }
+
+        ScrapingResult result;
+        try {
+            result = delegate.scrape(request);
+        } catch (RuntimeException e) {
+            breaker.onFailure(clock.instant());
+            throw e;
+        }
+
+        if (isHostFailure(result)) {
+            breaker.onFailure(clock.instant());
+        } else {
+            breaker.onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * Forwards only the requests whose host is accepting calls; the rest are
+     * answered immediately with a refused item carrying the remaining cool-down.
+     */
+    @Override
+    public void scrapeBatch(List<ScrapeRequest> requests, Consumer<BatchItem> onResult) {
+        List<ScrapeRequest> allowed = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        Instant now = clock.instant();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ScrapeRequest request = requests.get(i);
+            String host = hostOf(request.url());
+            if (breakerFor(host).tryAcquire(now)) {
+                allowed.add(request);
+                positions.add(i);
+            } else {
+                onResult.accept(new BatchItem(i,
+                        new ScrapingResult(null, 0, 0, "Host temporarily unavailable: " + host),
+                        retryAfter(breakerFor(host), now)));
+            }
+        }
+
+        if (allowed.isEmpty()) {
+            return;
+        }
+        // Every acquired permit must be settled, even when the delegate gives up
+        // part way; a half-open breaker would otherwise refuse the host for good
+        AtomicIntegerArray settled = new AtomicIntegerArray(allowed.size());
+        boolean completed = false;
+        try {
+            delegate.scrapeBatch(allowed, item -> {
+                if (settled.compareAndSet(item.index(), 0, 1)) {
+                    HostCircuitBreaker breaker = breakerFor(hostOf(allowed.get(item.index()).url()));
+                    if (isHostFailure(item.result())) {
+                        breaker.onFailure(clock.instant());
+                    } else {
+                        breaker.onSuccess();
+                    }
+                }
+                onResult.accept(new BatchItem(positions.get(item.index()), item.result()));
+            });
+            completed = true;
+        } finally {
+            for (int i = 0; i < allowed.size(); i++) {
+                if (settled.compareAndSet(i, 0, 1)) {
+                    HostCircuitBreaker breaker = breakerFor(hostOf(allowed.get(i).url()));
+                    if (completed) {
+                        breaker.release();
+                    } else {
+                        breaker.onFailure(clock.instant());
+                    }
+                }
+            }
+        }
+    }
+
+    // A half-open breaker out of probe permits has no cool-down left; wait a full one
+    private Duration retryAfter(HostCircuitBreaker breaker, Instant now) {
+        Duration remaining = breaker.remainingOpen(now);
+        return remaining.isZero() ? settings.openDuration() : remaining;
+    }
+
+    private HostCircuitBreaker breakerFor(String host) {
+        return breakers.computeIfAbsent(host, h -> new HostCircuitBreaker(settings));
+    }
+
+    // Client errors say nothing about host health; 5xx, 429 and transport errors do
+    private boolean isHostFailure(ScrapingResult result) {
+        if (result.error() != null && result.httpStatus() == 0) {
+            return true;
+        }
+        return result.httpStatus() >= 500 || result.httpStatus() == 429;
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host != null) {
+                return host.toLowerCase(Locale.ROOT);
+            }
+        } catch (IllegalArgumentException e) {
+            // Fall through and key on the raw URL
+        }
+        return url;
+    }
+}
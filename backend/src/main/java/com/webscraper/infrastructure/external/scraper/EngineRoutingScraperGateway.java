@@ -0,0 +1,183 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import com.webscraper.application.port.out.ScraperGateway;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Decorator that tries a plain HTTP fetch before paying for a browser.
+ * A page goes to the browser engine only when the static response looks
+ * like a JavaScript shell; that decision is remembered per URL pattern for
+ * a while, so later pages of the same kind skip the probe until the pattern
+ * is probed again.
+ */
+public class EngineRoutingScraperGateway implements ScraperGateway {
+
+    public static final String STATIC_ENGINE = "static";
+    private static final String DEFAULT_BROWSER_ENGINE = "playwright";
+
+    // Section names that vary per page (ids, dates) collapse to one pattern
+    private static final Pattern VARIABLE_SEGMENT = Pattern.compile(".*\\d.*|[0-9a-fA-F-]{16,}");
+
+    private record Escalation(int index, ScrapeRequest request) {}
+
+    private final ScraperGateway browserGateway;
+    private final StaticPageFetcher staticFetcher;
+    private final JsShellDetector detector;
+    private final int maxStaticInFlight;
+    private final long browserRouteTtlNanos;
+    // URL pattern -> System.nanoTime() until which its pages go straight to the browser
+    private final Map<String, Long> browserRoutes = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxStaticInFlight static fetches one batch runs at a time
+     * @param browserRouteTtl   how long a pattern found to need a browser skips the static probe
+     */
+    public EngineRoutingScraperGateway(ScraperGateway browserGateway, StaticPageFetcher staticFetcher,
+                                       JsShellDetector detector, int maxStaticInFlight, Duration browserRouteTtl) {
+        this.browserGateway = browserGateway;
+        this.staticFetcher = staticFetcher;
+        this.detector = detector;
+        this.maxStaticInFlight = maxStaticInFlight;
+        this.browserRouteTtlNanos = browserRouteTtl.toNanos();
+    }
+
+    @Override
+    public ScrapingResult scrape(ScrapeRequest request) {
+        if (requiresBrowser(request)) {
+            return browserGateway.scrape(toBrowser(request));
+        }
+        ScrapingResult staticResult = tryStatic(request);
+        return staticResult != null ? staticResult : browserGateway.scrape(toBrowser(request));
+    }
+
+    @Override
+    public void scrapeBatch(List<ScrapeRequest> requests, Consumer<BatchItem> onResult) {
+        Queue<Escalation> escalations = new ConcurrentLinkedQueue<>();
+        Semaphore inFlight = new Semaphore(maxStaticInFlight);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests.size(); i++) {
+                ScrapeRequest request = requests.get(i);
+                if (requiresBrowser(request)) {
+                    escalations.add(new Escalation(i, toBrowser(request)));
+                    continue;
+                }
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    for (int j = i; j < requests.size(); j++) {
+                        onResult.accept(new BatchItem(j, new ScrapingResult(null, 0, 0, "Interrupted")));
+                    }
+                    break;
+                }
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        ScrapingResult result = tryStatic(request);
+                        if (result != null) {
+                            onResult.accept(new BatchItem(index, result));
+                        } else {
+                            escalations.add(new Escalation(index, toBrowser(request)));
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        if (!escalations.isEmpty()) {
+            List<Escalation> escalated = List.copyOf(escalations);
+            browserGateway.scrapeBatch(escalated.stream().map(Escalation::request).toList(),
+                    item -> onResult.accept(new BatchItem(escalated.get(item.index()).index(), item.result())));
+        }
+    }
+
+    /**
+     * Fetch without a browser and keep the result if it is usable.
+     * @return the static result, or null when the page has to be rendered
+     */
+    private ScrapingResult tryStatic(ScrapeRequest request) {
+        ScrapingResult result = staticFetcher.fetch(request.url());
+        if (STATIC_ENGINE.equals(request.engine())) {
+            return result;
+        }
+        if (result.httpStatus() == 404 || result.httpStatus() == 410) {
+            return result;
+        }
+        if (result.error() != null && result.httpStatus() >= 200 && result.httpStatus() < 300) {
+            // Refused by the fetch limits (binary, too large); a browser would load the same body
+            return result;
+        }
+        if (!result.isSuccess()) {
+            // Blocked or broken for a plain client; let the browser try without learning from it
+            return null;
+        }
+        if (detector.needsBrowser(result.rawHtml())) {
+            browserRoutes.put(patternOf(request.url()), System.nanoTime() + browserRouteTtlNanos);
+            return null;
+        }
+        return result;
+    }
+
+    private boolean requiresBrowser(ScrapeRequest request) {
+        if (STATIC_ENGINE.equals(request.engine())) {
+            return false;
+        }
+        // Waiting for a selector only makes sense inside a browser
+        if (request.config() != null && request.config().containsKey("waitForSelector")) {
+            return true;
+        }
+        String pattern = patternOf(request.url());
+        Long until = browserRoutes.get(pattern);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            // Sites change their rendering; probe the pattern again
+            browserRoutes.remove(pattern, until);
+            return false;
+        }
+        return true;
+    }
+
+    private ScrapeRequest toBrowser(ScrapeRequest request) {
+        String engine = request.engine() == null || STATIC_ENGINE.equals(request.engine())
+                || "auto".equals(request.engine())
+                ? DEFAULT_BROWSER_ENGINE : request.engine();
+        return new ScrapeRequest(request.url(), engine, request.config());
+    }
+
+    /**
+     * Host plus the first path segment; anything deeper collapses to '*'.
+     * e.g. https://shop.example/products/12345/reviews -> shop.example/products/*
+     */
+    static String patternOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+            String[] segments = (uri.getPath() != null ? uri.getPath() : "").replaceFirst("^/+", "").split("/+");
+            if (segments[0].isEmpty()) {
+                return host + "/";
+            }
+            String first = VARIABLE_SEGMENT.matcher(segments[0]).matches() ? "*" : segments[0];
+            return host + "/" + first + (segments.length > 1 ? "/*" : "");
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Circuit breaker for a single host.
+ * Tracks the outcome of the last N calls in a ring buffer and opens
+ * when the failure rate crosses the threshold.
+ */
+class HostCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CircuitBreakingScraperGateway.Settings settings;
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    HostCircuitBreaker(CircuitBreakingScraperGateway.Settings settings) {
+        this.settings = settings;
+        this.outcomes = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * Ask for permission to call the host.
+     * Moves OPEN to HALF_OPEN once the cool-down has elapsed.
+     */
+    synchronized boolean tryAcquire(Instant now) {
+        if (state == State.OPEN) {
+            if (now.isBefore(openedAt.plus(settings.openDuration()))) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= settings.halfOpenPermits()) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= settings.halfOpenPermits()) {
+                reset();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * Give back a permit whose call produced no outcome.
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    synchronized void onFailure(Instant now) {
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+        record(true);
+        if (recorded >= settings.minimumCalls()
+                && (double) failures / recorded >= settings.failureRateThreshold()) {
+            open(now);
+        }
+    }
+
+    /**
+     * Time left until the breaker lets a trial call through.
+     */
+    synchronized Duration remainingOpen(Instant now) {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(now, openedAt.plus(settings.openDuration()));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void open(Instant now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        openedAt = null;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        Arrays.fill(outcomes, false);
+    }
+}
@@ -0,0 +1,238 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webscraper.application.port.out.ScraperGateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ScraperGateway adapter that calls the Python scraper service over HTTP.
+ * Batches are split into chunks and several chunks are kept in flight at
+ * once; each chunk's response is NDJSON, one line per finished URL.
+ * The request timeout applies to each URL's line, not to the whole chunk.
+ */
+public class HttpScraperGateway implements ScraperGateway {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI scrapeUri;
+    private final URI batchUri;
+    private final Duration timeout;
+    private final int batchSize;
+    private final int maxBatchesInFlight;
+    private final ScheduledExecutorService idleTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "scraper-batch-idle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HttpScraperGateway(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl,
+                              Duration timeout, int batchSize, int maxBatchesInFlight) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.scrapeUri = URI.create(baseUrl + "/api/scrape");
+        this.batchUri = URI.create(baseUrl + "/api/scrape/batch");
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
+    @Override
+    public ScrapingResult scrape(ScrapeRequest request) {
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder(scrapeUri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(toJson(request))))
+                    .build();
+            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return new ScrapingResult(null, response.statusCode(), 0, "Scraper service returned " + response.statusCode());
+            }
+            return toResult(objectMapper.readTree(response.body()));
+        } catch (IOException e) {
+            return new ScrapingResult(null, 0, 0, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ScrapingResult(null, 0, 0, "Interrupted");
+        }
+    }
+
+    @Override
+    public void scrapeBatch(List<ScrapeRequest> requests, Consumer<BatchItem> onResult) {
+        Semaphore inFlight = new Semaphore(maxBatchesInFlight);
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        for (int offset = 0; offset < requests.size(); offset += batchSize) {
+            List<ScrapeRequest> chunk = requests.subList(offset, Math.min(offset + batchSize, requests.size()));
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            pending.add(sendChunk(chunk, offset, onResult).whenComplete((v, e) -> inFlight.release()));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private CompletableFuture<Void> sendChunk(List<ScrapeRequest> chunk, int offset, Consumer<BatchItem> onResult) {
+        ChunkResults results = new ChunkResults(chunk.size(), offset, onResult);
+        HttpRequest httpRequest;
+        try {
+            Map<String, Object> body = Map.of("requests", chunk.stream().map(this::toJson).toList());
+            // Bounds the wait for the response headers; the body is bounded by the idle timeout
+            httpRequest = HttpRequest.newBuilder(batchUri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            results.failRemaining(e.getMessage());
+            return results.done;
+        }
+
+        HttpResponse.BodyHandler<Void> handler = info -> info.statusCode() == 200
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(results)
+                : HttpResponse.BodySubscribers.replacing(null);
+        httpClient.sendAsync(httpRequest, handler).whenComplete((response, e) -> {
+            if (e != null) {
+                results.failRemaining(e.getMessage());
+            } else if (response.statusCode() != 200) {
+                results.failRemaining("Scraper service returned " + response.statusCode());
+            }
+        });
+        return results.done;
+    }
+
+    /**
+     * Receives one chunk's NDJSON lines as they arrive. The stream is given up
+     * when no line has arrived for the request timeout, so a stalled service
+     * costs one timeout per chunk however many URLs the chunk holds.
+     */
+    private final class ChunkResults implements Flow.Subscriber<String> {
+
+        private final boolean[] delivered;
+        private final int offset;
+        private final Consumer<BatchItem> onResult;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private long lastLineAt;
+
+        ChunkResults(int size, int offset, Consumer<BatchItem> onResult) {
+            this.delivered = new boolean[size];
+            this.offset = offset;
+            this.onResult = onResult;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            synchronized (this) {
+                this.subscription = subscription;
+                lastLineAt = System.nanoTime();
+            }
+            idleTimer.schedule(this::checkIdle, timeout.toNanos(), TimeUnit.NANOSECONDS);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.isBlank()) {
+                return;
+            }
+            JsonNode node = readLine(line);
+            int index = node.path("index").asInt(-1);
+            synchronized (this) {
+                lastLineAt = System.nanoTime();
+                if (!done.isDone() && index >= 0 && index < delivered.length && !delivered[index]) {
+                    delivered[index] = true;
+                    onResult.accept(new BatchItem(offset + index, toResult(node)));
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            failRemaining(e.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            // The service must answer every URL; anything missing is reported as a failure
+            failRemaining("No result returned by scraper service");
+        }
+
+        synchronized void failRemaining(String error) {
+            if (done.isDone()) {
+                return;
+            }
+            for (int i = 0; i < delivered.length; i++) {
+                if (!delivered[i]) {
+                    delivered[i] = true;
+                    onResult.accept(new BatchItem(offset + i, new ScrapingResult(null, 0, 0, error)));
+                }
+            }
+            done.complete(null);
+        }
+
+        private void checkIdle() {
+            synchronized (this) {
+                if (done.isDone()) {
+                    return;
+                }
+                long idle = System.nanoTime() - lastLineAt;
+                if (idle < timeout.toNanos()) {
+                    idleTimer.schedule(this::checkIdle, timeout.toNanos() - idle, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                failRemaining("No result from scraper service for " + timeout.toMillis() + " ms");
+            }
+            subscription.cancel();
+        }
+    }
+
+    private JsonNode readLine(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    private Map<String, Object> toJson(ScrapeRequest request) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("url", request.url());
+        json.put("engine", request.engine());
+        json.put("config", request.config() != null ? request.config() : Map.of());
+        return json;
+    }
+
+    private ScrapingResult toResult(JsonNode node) {
+        return new ScrapingResult(
+            node.hasNonNull("rawHtml") ? node.get("rawHtml").asText() : null,
+            node.path("httpStatus").asInt(0),
+            node.path("responseTimeMs").asInt(0),
+            node.hasNonNull("error") ? node.get("error").asText() : null
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Heuristics that tell whether a statically fetched page is a JavaScript
+ * shell whose real content only appears after rendering in a browser.
+ */
+public class JsShellDetector {
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile(
+            "(?is)<(script|style|noscript|template)\\b.*?</\\1\\s*>");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NOSCRIPT_WARNING = Pattern.compile(
+            "(?is)<noscript\\b[^>]*>[^<]*(enable|requires?|turn on)[^<]*javascript");
+
+    // Empty mount points left by client-side frameworks
+    private static final List<Pattern> EMPTY_APP_ROOTS = List.of(
+            Pattern.compile("(?i)<div[^>]+id=[\"'](root|app|__next|__nuxt|svelte)[\"'][^>]*>\\s*</div>"),
+            Pattern.compile("(?i)<app-root[^>]*>\\s*</app-root>")
+    );
+
+    private final int minTextLength;
+    private final double minTextDensity;
+
+    public JsShellDetector(int minTextLength, double minTextDensity) {
+        this.minTextLength = minTextLength;
+        this.minTextDensity = minTextDensity;
+    }
+
+    public static JsShellDetector defaults() {
+        return new JsShellDetector(200, 0.02);
+    }
+
+    /**
+     * @return true when the page needs a browser to show its content
+     */
+    public boolean needsBrowser(String html) {
+        if (html == null || html.isBlank()) {
+            return true;
+        }
+        if (NOSCRIPT_WARNING.matcher(html).find()) {
+            return true;
+        }
+        for (Pattern root : EMPTY_APP_ROOTS) {
+            if (root.matcher(html).find()) {
+                return true;
+            }
+        }
+
+        int textLength = visibleTextLength(html);
+        if (textLength < minTextLength) {
+            return true;
+        }
+        return (double) textLength / html.length() < minTextDensity;
+    }
+
+    static int visibleTextLength(String html) {
+        String withoutCode = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        String text = TAG.matcher(withoutCode).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim().length();
+    }
+}
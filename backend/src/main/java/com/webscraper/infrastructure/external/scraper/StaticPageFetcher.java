@@ -0,0 +1,203 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import com.webscraper.application.port.out.ScraperGateway.ScrapingResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Plain HTTP GET of a page, without a browser.
+ * Used as the cheap first attempt before escalating to a rendering engine.
+ *
+ * The body is streamed and decoded incrementally: disallowed content types,
+ * binary payloads and bodies over the size cap are rejected after reading
+ * the headers and the first bytes, so one bad URL cannot fill the heap.
+ */
+public class StaticPageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; WebScraperBot/1.0)";
+    private static final int SNIFF_BYTES = 16;
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Limits limits;
+
+    public record Limits(
+        long maxBodyBytes,
+        Set<String> allowedContentTypes
+    ) {
+        public static Limits defaults() {
+            return new Limits(10L * 1024 * 1024, Set.of(
+                "text/html", "application/xhtml+xml", "text/plain", "application/xml", "text/xml"));
+        }
+    }
+
+    public StaticPageFetcher(HttpClient httpClient, Duration timeout) {
+        this(httpClient, timeout, Limits.defaults());
+    }
+
+    public StaticPageFetcher(HttpClient httpClient, Duration timeout, Limits limits) {
+        this.httpClient = httpClient;
+        this.timeout = timeout;
+        this.limits = limits;
+    }
+
+    /**
+     * A 2xx result with an error means the body was refused by the limits;
+     * fetching the same URL again, with or without a browser, will not help.
+     */
+    public ScrapingResult fetch(String url) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(timeout)
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "text/html,application/xhtml+xml")
+                    .header("Accept-Encoding", "gzip, deflate")
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                return read(response.statusCode(), response.headers(), body, start);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return new ScrapingResult(null, 0, elapsedMs(start), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ScrapingResult(null, 0, elapsedMs(start), "Interrupted");
+        }
+    }
+
+    private ScrapingResult read(int status, HttpHeaders headers, InputStream raw, long start) throws IOException {
+        String contentType = headers.firstValue("Content-Type").orElse("").toLowerCase(Locale.ROOT);
+        String mimeType = contentType.split(";", 2)[0].trim();
+        if (!mimeType.isEmpty() && !limits.allowedContentTypes().contains(mimeType)) {
+            return rejected(status, start, "content type " + mimeType);
+        }
+
+        long declaredLength = headers.firstValueAsLong("Content-Length").orElse(-1L);
+        if (declaredLength > limits.maxBodyBytes()) {
+            return rejected(status, start, "declared length " + declaredLength + " bytes");
+        }
+
+        InputStream decoded;
+        String encoding = headers.firstValue("Content-Encoding").orElse("identity").toLowerCase(Locale.ROOT).trim();
+        switch (encoding) {
+            case "identity", "" -> decoded = raw;
+            case "gzip", "x-gzip" -> decoded = new GZIPInputStream(raw, 8192);
+            case "deflate" -> decoded = new InflaterInputStream(raw);
+            default -> {
+                return rejected(status, start, "content encoding " + encoding);
+            }
+        }
+
+        // Cap the decompressed size too, so a small gzip bomb is still cut off
+        BoundedInputStream bounded = new BoundedInputStream(decoded, limits.maxBodyBytes());
+        PushbackInputStream sniffable = new PushbackInputStream(bounded, SNIFF_BYTES);
+        byte[] head = sniffable.readNBytes(SNIFF_BYTES);
+        String binaryType = BinarySignatures.detect(head);
+        if (binaryType != null) {
+            return rejected(status, start, "binary " + binaryType + " body");
+        }
+        sniffable.unread(head);
+
+        StringBuilder html = new StringBuilder((int) Math.min(declaredLength > 0 ? declaredLength : 16 * 1024, 1 << 20));
+        try (Reader reader = new InputStreamReader(sniffable, charsetOf(contentType))) {
+            char[] buffer = new char[8192];
+            int n;
+            while ((n = reader.read(buffer)) != -1) {
+                html.append(buffer, 0, n);
+            }
+        }
+        if (bounded.isExceeded()) {
+            return rejected(status, start, "body larger than " + limits.maxBodyBytes() + " bytes");
+        }
+        return new ScrapingResult(html.toString(), status, elapsedMs(start), null);
+    }
+
+    private ScrapingResult rejected(int status, long start, String reason) {
+        // Closing the stream without draining it aborts the exchange
+        return new ScrapingResult(null, status, elapsedMs(start), "Rejected: " + reason);
+    }
+
+    private Charset charsetOf(String contentType) {
+        int index = contentType.indexOf("charset=");
+        if (index < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        String name = contentType.substring(index + 8).split("[;\\s]", 2)[0].replace("\"", "");
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private int elapsedMs(long start) {
+        return (int) ((System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Stops reading one byte past the limit and remembers that it did.
+     */
+    static class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.limit = limit;
+        }
+
+        boolean isExceeded() {
+            return count > limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (count > limit) {
+                return -1;
+            }
+            int b = in.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (count > limit) {
+                return -1;
+            }
+            int allowed = (int) Math.min(length, limit - count + 1);
+            int n = in.read(buffer, offset, allowed);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.webscraper.infrastructure.persistence.adapter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Null-safe conversions between domain values and JDBC parameters and columns.
+ */
+final class JdbcValues {
+
+    private JdbcValues() {
+    }
+
+    static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
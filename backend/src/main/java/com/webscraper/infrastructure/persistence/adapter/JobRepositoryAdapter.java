@@ -1,75 +1,201 @@
 package com.webscraper.infrastructure.persistence.adapter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.webscraper.application.port.out.JobRepository;
 import com.webscraper.domain.entity.ScrapeJob;
+import com.webscraper.domain.valueobject.Cursor;
 import com.webscraper.domain.valueobject.JobStatus;
-import com.webscraper.infrastructure.persistence.jpa.repository.JpaScrapeJobRepository;
-import com.webscraper.infrastructure.persistence.mapper.ScrapeJobMapper;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Plain JDBC: rows are mapped straight to domain jobs, and a save is a
+ * single upsert rather than an entity merge (a SELECT, then the write).
+ */
 @Component
 public class JobRepositoryAdapter implements JobRepository {
-    
-    private final JpaScrapeJobRepository jpaRepository;
-    private final ScrapeJobMapper mapper;
 
-    public JobRepositoryAdapter(JpaScrapeJobRepository jpaRepository, ScrapeJobMapper mapper) {
-        this.jpaRepository = jpaRepository;
-        this.mapper = mapper;
+    private static final TypeReference<Map<String, Object>> CONFIG_TYPE = new TypeReference<>() {};
+
+    private static final String COLUMNS = """
+        id, target_id, user_id, status, config, scheduled_at, started_at, completed_at,
+        pages_found, pages_scraped, error_message, created_at
+        """;
+
+    // Insert only: a job's status and progress change through the conditional transitions,
+    // so a stale copy saved again can never overwrite them
+    private static final String SAVE_SQL = """
+        INSERT INTO scrape_jobs (id, target_id, user_id, status, config, scheduled_at, started_at,
+                                 completed_at, pages_found, pages_scraped, error_message, created_at)
+        VALUES (?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (id) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final RowMapper<ScrapeJob> rowMapper = this::toDomain;
+
+    public JobRepositoryAdapter(JdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public ScrapeJob save(ScrapeJob job) {
-        var entity = mapper.toJpa(job);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        jdbc.update(SAVE_SQL,
+                job.getId(),
+                job.getTargetId(),
+                job.getUserId(),
+                job.getStatus().name(),
+                toJson(job.getConfig()),
+                JdbcValues.timestamp(job.getScheduledAt()),
+                JdbcValues.timestamp(job.getStartedAt()),
+                JdbcValues.timestamp(job.getCompletedAt()),
+                job.getPagesFound(),
+                job.getPagesScraped(),
+                job.getErrorMessage(),
+                JdbcValues.timestamp(job.getCreatedAt()));
+        return job;
     }
 
     @Override
     public Optional<ScrapeJob> findById(UUID id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+        return jdbc.query("SELECT " + COLUMNS + " FROM scrape_jobs WHERE id = ?", rowMapper, id)
+                .stream()
+                .findFirst();
     }
 
     @Override
-    public List<ScrapeJob> findByUserId(UUID userId, int page, int size) {
-        return jpaRepository.findByUserId(userId, PageRequest.of(page, size))
-                .map(mapper::toDomain)
-                .getContent();
+    public List<ScrapeJob> findByUserId(UUID userId, Cursor after, int limit) {
+        if (after == null) {
+            return jdbc.query("SELECT " + COLUMNS + """
+                    FROM scrape_jobs WHERE user_id = ?
+                    ORDER BY created_at DESC, id DESC LIMIT ?
+                    """, rowMapper, userId, limit);
+        }
+        return jdbc.query("SELECT " + COLUMNS + """
+                FROM scrape_jobs WHERE user_id = ? AND (created_at, id) < (?, ?)
+                ORDER BY created_at DESC, id DESC LIMIT ?
+                """, rowMapper, userId, JdbcValues.timestamp(after.createdAt()), after.id(), limit);
     }
 
     @Override
-    public List<ScrapeJob> findByUserIdAndStatus(UUID userId, JobStatus status, int page, int size) {
-        return jpaRepository.findByUserIdAndStatus(userId, status.name(), PageRequest.of(page, size))
-                .map(mapper::toDomain)
-                .getContent();
+    public List<ScrapeJob> findByUserIdAndStatus(UUID userId, JobStatus status, Cursor after, int limit) {
+        if (after == null) {
+            return jdbc.query("SELECT " + COLUMNS + """
+                    FROM scrape_jobs WHERE user_id = ? AND status = ?
+                    ORDER BY created_at DESC, id DESC LIMIT ?
+                    """, rowMapper, userId, status.name(), limit);
+        }
+        return jdbc.query("SELECT " + COLUMNS + """
+                FROM scrape_jobs WHERE user_id = ? AND status = ? AND (created_at, id) < (?, ?)
+                ORDER BY created_at DESC, id DESC LIMIT ?
+                """, rowMapper, userId, status.name(), JdbcValues.timestamp(after.createdAt()), after.id(), limit);
     }
 
     @Override
     public List<ScrapeJob> findByTargetId(UUID targetId) {
-        return jpaRepository.findByTargetId(targetId)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        return jdbc.query("SELECT " + COLUMNS + " FROM scrape_jobs WHERE target_id = ?", rowMapper, targetId);
     }
 
     @Override
     public List<ScrapeJob> findPendingByTargetId(UUID targetId) {
-        return jpaRepository.findPendingByTargetId(targetId)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        return jdbc.query("SELECT " + COLUMNS + " FROM scrape_jobs WHERE target_id = ? AND status = 'PENDING'",
+                rowMapper, targetId);
     }
 
     @Override
     public List<ScrapeJob> findPendingJobsOrderedBySchedule() {
-        return jpaRepository.findPendingJobsOrderedBySchedule()
+        return jdbc.query("SELECT " + COLUMNS + """
+                FROM scrape_jobs WHERE status = 'PENDING'
+                ORDER BY scheduled_at ASC NULLS LAST
+                """, rowMapper);
+    }
+
+    @Override
+    public Optional<ScrapeJob> start(UUID id, Instant startedAt) {
+        return transition("""
+                UPDATE scrape_jobs SET status = 'RUNNING', started_at = ?
+                WHERE id = ? AND status = 'PENDING'
+                """, JdbcValues.timestamp(startedAt), id);
+    }
+
+    @Override
+    public Optional<ScrapeJob> complete(UUID id, int pagesFound, int pagesScraped, Instant completedAt) {
+        return transition("""
+                UPDATE scrape_jobs SET status = 'COMPLETED', pages_found = ?, pages_scraped = ?, completed_at = ?
+                WHERE id = ? AND status = 'RUNNING'
+                """, pagesFound, pagesScraped, JdbcValues.timestamp(completedAt), id);
+    }
+
+    @Override
+    public Optional<ScrapeJob> fail(UUID id, String errorMessage, Instant completedAt) {
+        return transition("""
+                UPDATE scrape_jobs SET status = 'FAILED', error_message = ?, completed_at = ?
+                WHERE id = ? AND status IN ('PENDING', 'RUNNING')
+                """, errorMessage, JdbcValues.timestamp(completedAt), id);
+    }
+
+    @Override
+    public Optional<ScrapeJob> cancel(UUID id, UUID userId, Instant completedAt) {
+        return transition("""
+                UPDATE scrape_jobs SET status = 'CANCELLED', completed_at = ?
+                WHERE id = ? AND user_id = ? AND status IN ('PENDING', 'RUNNING')
+                """, JdbcValues.timestamp(completedAt), id, userId);
+    }
+
+    // The row lock taken by the update makes a concurrent transition of the same
+    // job wait, then re-check its WHERE clause against the committed status
+    private Optional<ScrapeJob> transition(String update, Object... args) {
+        return jdbc.query(update + "RETURNING " + COLUMNS, rowMapper, args)
                 .stream()
-                .map(mapper::toDomain)
-                .toList();
+                .findFirst();
+    }
+
+    private ScrapeJob toDomain(ResultSet rs, int row) throws SQLException {
+        return new ScrapeJob(
+            rs.getObject("id", UUID.class),
+            rs.getObject("target_id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            JobStatus.valueOf(rs.getString("status")),
+            fromJson(rs.getString("config")),
+            JdbcValues.instant(rs, "scheduled_at"),
+            JdbcValues.instant(rs, "started_at"),
+            JdbcValues.instant(rs, "completed_at"),
+            rs.getInt("pages_found"),
+            rs.getInt("pages_scraped"),
+            rs.getString("error_message"),
+            JdbcValues.instant(rs, "created_at")
+        );
+    }
+
+    private String toJson(Map<String, Object> config) {
+        try {
+            return objectMapper.writeValueAsString(config != null ? config : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Job config is not serializable", e);
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, CONFIG_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored job config is not valid JSON", e);
+        }
     }
 }
@@ -2,58 +2,210 @@ package com.webscraper.infrastructure.persistence.adapter;
 
 import com.webscraper.application.port.out.PageRepository;
 import com.webscraper.domain.entity.Page;
+import com.webscraper.domain.valueobject.ChangeRate;
+import com.webscraper.domain.valueobject.Cursor;
+import com.webscraper.domain.valueobject.HashAlgorithm;
 import com.webscraper.domain.valueobject.UrlHash;
-import com.webscraper.infrastructure.persistence.jpa.repository.JpaPageRepository;
-import com.webscraper.infrastructure.persistence.mapper.PageMapper;
-import org.springframework.data.domain.PageRequest;
+import com.webscraper.infrastructure.persistence.counter.CounterStore;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Plain JDBC, like the job adapter: rows are mapped straight to domain
+ * pages and every write is one statement.
+ */
 @Component
 public class PageRepositoryAdapter implements PageRepository {
     
-    private final JpaPageRepository jpaRepository;
-    private final PageMapper mapper;
+    private static final int INGEST_CHUNK_SIZE = 5000;
+    
+    // One statement per chunk: the columns travel as arrays and unnest turns them back into rows
+    private static final String INGEST_SQL = """
+        INSERT INTO pages (id, target_id, discovered_by_job_id, url, url_hash, url_hash_algorithm,
+                           scrape_count, created_at)
+        SELECT id, target_id, job_id, url, url_hash, algorithm, 0, created_at
+        FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::text[], ?::bytea[], ?::smallint[], ?::timestamptz[])
+             AS input(id, target_id, job_id, url, url_hash, algorithm, created_at)
+        ON CONFLICT (target_id, url_hash) DO NOTHING
+        RETURNING id
+        """;
+    
+    // GREATEST ignores NULL, so a first scrape of a discovered page sets last_scraped_at
+    // and first_scraped_at
+    private static final String UPSERT_SCRAPED_SQL = """
+        INSERT INTO pages (id, target_id, discovered_by_job_id, url, url_hash, url_hash_algorithm,
+                           scrape_count, last_scraped_at, first_scraped_at, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?, ?)
+        ON CONFLICT (target_id, url_hash) DO UPDATE
+        SET scrape_count = pages.scrape_count + 1,
+            last_scraped_at = GREATEST(pages.last_scraped_at, EXCLUDED.last_scraped_at),
+            first_scraped_at = LEAST(pages.first_scraped_at, EXCLUDED.first_scraped_at)
+        RETURNING id
+        """;
+    
+    private static final String COLUMNS = """
+        id, target_id, discovered_by_job_id, url, url_hash, url_hash_algorithm, last_scraped_at,
+        scrape_count, change_rate, next_scrape_at, created_at
+        """;
+    
+    private final JdbcTemplate jdbc;
+    private final CounterStore counters;
+    private final RowMapper<Page> rowMapper = this::toDomain;
 
-    public PageRepositoryAdapter(JpaPageRepository jpaRepository, PageMapper mapper) {
-        this.jpaRepository = jpaRepository;
-        this.mapper = mapper;
+    public PageRepositoryAdapter(JdbcTemplate jdbc, CounterStore counters) {
+        this.jdbc = jdbc;
+        this.counters = counters;
     }
 
     @Override
-    public Page save(Page page) {
-        var entity = mapper.toJpa(page);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+    public List<Page> ingest(Stream<Page> pages) {
+        List<Page> inserted = new ArrayList<>();
+        List<Page> chunk = new ArrayList<>(INGEST_CHUNK_SIZE);
+        Iterator<Page> iterator = pages.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == INGEST_CHUNK_SIZE || !iterator.hasNext()) {
+                inserted.addAll(insertNew(chunk));
+                chunk.clear();
+            }
+        }
+        return inserted;
+    }
+
+    private List<Page> insertNew(List<Page> chunk) {
+        int size = chunk.size();
+        UUID[] ids = new UUID[size];
+        UUID[] targetIds = new UUID[size];
+        UUID[] jobIds = new UUID[size];
+        String[] urls = new String[size];
+        byte[][] urlHashes = new byte[size][];
+        Short[] algorithms = new Short[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            Page page = chunk.get(i);
+            ids[i] = page.getId();
+            targetIds[i] = page.getTargetId();
+            jobIds[i] = page.getDiscoveredByJobId();
+            urls[i] = page.getUrl();
+            urlHashes[i] = page.getUrlHash().toBytes();
+            algorithms[i] = (short) page.getUrlHash().algorithm().id();
+            createdAt[i] = Timestamp.from(page.getCreatedAt());
+        }
+
+        Set<UUID> insertedIds = jdbc.execute((ConnectionCallback<Set<UUID>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INGEST_SQL)) {
+                statement.setArray(1, connection.createArrayOf("uuid", ids));
+                statement.setArray(2, connection.createArrayOf("uuid", targetIds));
+                statement.setArray(3, connection.createArrayOf("uuid", jobIds));
+                statement.setArray(4, connection.createArrayOf("text", urls));
+                statement.setArray(5, connection.createArrayOf("bytea", urlHashes));
+                statement.setArray(6, connection.createArrayOf("int2", algorithms));
+                statement.setArray(7, connection.createArrayOf("timestamptz", createdAt));
+                Set<UUID> result = new HashSet<>();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        result.add(rows.getObject(1, UUID.class));
+                    }
+                }
+                return result;
+            }
+        });
+        return chunk.stream().filter(page -> insertedIds.contains(page.getId())).toList();
     }
 
     @Override
     public Optional<Page> findById(UUID id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+        return jdbc.query("SELECT " + COLUMNS + " FROM pages WHERE id = ?", rowMapper, id)
+                .stream()
+                .findFirst();
     }
 
     @Override
-    public Optional<Page> findByUrlHash(UrlHash urlHash) {
-        return jpaRepository.findByUrlHash(urlHash.value()).map(mapper::toDomain);
+    public Optional<Page> findByUrlHash(UUID targetId, UrlHash urlHash) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM pages WHERE target_id = ? AND url_hash = ?",
+                        rowMapper, targetId, urlHash.toBytes())
+                .stream()
+                .findFirst();
     }
 
     @Override
-    public boolean existsByUrlHash(UrlHash urlHash) {
-        return jpaRepository.existsByUrlHash(urlHash.value());
+    public UUID upsertScraped(Page page, Instant scrapedAt) {
+        return jdbc.queryForObject(UPSERT_SCRAPED_SQL, UUID.class,
+                page.getId(),
+                page.getTargetId(),
+                page.getDiscoveredByJobId(),
+                page.getUrl(),
+                page.getUrlHash().toBytes(),
+                (short) page.getUrlHash().algorithm().id(),
+                Timestamp.from(scrapedAt),
+                Timestamp.from(scrapedAt),
+                Timestamp.from(page.getCreatedAt()));
     }
 
     @Override
-    public List<Page> findByTargetId(UUID targetId, int page, int size) {
-        return jpaRepository.findByTargetId(targetId, PageRequest.of(page, size))
-                .map(mapper::toDomain)
-                .getContent();
+    public void updateSchedule(UUID pageId, ChangeRate changeRate, Instant nextScrapeAt) {
+        jdbc.update("UPDATE pages SET change_rate = ?, next_scrape_at = ? WHERE id = ?",
+                changeRate != null ? changeRate.perDay() : null,
+                nextScrapeAt != null ? Timestamp.from(nextScrapeAt) : null,
+                pageId);
+    }
+
+    @Override
+    public List<Page> findByTargetId(UUID targetId, Cursor after, int limit) {
+        if (after == null) {
+            return jdbc.query("SELECT " + COLUMNS + """
+                    FROM pages WHERE target_id = ?
+                    ORDER BY created_at DESC, id DESC LIMIT ?
+                    """, rowMapper, targetId, limit);
+        }
+        return jdbc.query("SELECT " + COLUMNS + """
+                FROM pages WHERE target_id = ? AND (created_at, id) < (?, ?)
+                ORDER BY created_at DESC, id DESC LIMIT ?
+                """, rowMapper, targetId, JdbcValues.timestamp(after.createdAt()), after.id(), limit);
     }
 
     @Override
     public long countByTargetId(UUID targetId) {
-        return jpaRepository.countByTargetId(targetId);
+        return counters.get(CounterStore.Kind.TARGET_PAGES, targetId);
+    }
+
+    @Override
+    public List<Page> findDueForScrape(UUID targetId, Instant now, int limit) {
+        return jdbc.query("SELECT " + COLUMNS + """
+                FROM pages WHERE target_id = ? AND (next_scrape_at IS NULL OR next_scrape_at <= ?)
+                ORDER BY next_scrape_at ASC NULLS FIRST LIMIT ?
+                """, rowMapper, targetId, Timestamp.from(now), limit);
+    }
+
+    private Page toDomain(ResultSet rs, int row) throws SQLException {
+        Double changeRate = rs.getObject("change_rate", Double.class);
+        return new Page(
+            rs.getObject("id", UUID.class),
+            rs.getObject("target_id", UUID.class),
+            rs.getObject("discovered_by_job_id", UUID.class),
+            rs.getString("url"),
+            UrlHash.fromBytes(HashAlgorithm.fromId(rs.getShort("url_hash_algorithm")), rs.getBytes("url_hash")),
+            JdbcValues.instant(rs, "last_scraped_at"),
+            rs.getInt("scrape_count"),
+            changeRate != null ? new ChangeRate(changeRate) : null,
+            JdbcValues.instant(rs, "next_scrape_at"),
+            JdbcValues.instant(rs, "created_at")
+        );
     }
 }
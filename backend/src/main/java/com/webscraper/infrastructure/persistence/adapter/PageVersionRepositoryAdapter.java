@@ -0,0 +1,105 @@
+package com.webscraper.infrastructure.persistence.adapter;
+
+import com.webscraper.application.port.out.PageVersionRepository;
+import com.webscraper.domain.entity.PageVersion;
+import com.webscraper.domain.valueobject.SimHash;
+import com.webscraper.infrastructure.persistence.jpa.repository.JpaPageVersionRepository;
+import com.webscraper.infrastructure.persistence.mapper.PageVersionMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class PageVersionRepositoryAdapter implements PageVersionRepository {
+    
+    private static final int SIM_HASH_BANDS = 4;
+
+    // Versions are immutable and carry their UUIDv7 id, so a save is a plain insert: an
+    // entity merge would first look the id up, and with the primary key on (id, scraped_at)
+    // that lookup cannot be pruned and probes every partition. The HTML itself is kept in
+    // the blob store under the content hash, so raw_html is left null.
+    private static final String INSERT_SQL = """
+        INSERT INTO page_versions (id, page_id, job_id, content_hash, content_hash_algorithm, sim_hash,
+                                   near_duplicate_of, http_status, response_time_ms, scraped_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JpaPageVersionRepository jpaRepository;
+    private final JdbcTemplate jdbc;
+    private final PageVersionMapper mapper;
+
+    public PageVersionRepositoryAdapter(JpaPageVersionRepository jpaRepository, JdbcTemplate jdbc,
+                                        PageVersionMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.jdbc = jdbc;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public PageVersion save(PageVersion version) {
+        jdbc.update(INSERT_SQL,
+                version.getId(),
+                version.getPageId(),
+                version.getJobId(),
+                version.getContentHash().toBytes(),
+                (short) version.getContentHash().algorithm().id(),
+                version.getSimHash() != null ? version.getSimHash().value() : null,
+                version.getNearDuplicateOf(),
+                version.getHttpStatus(),
+                version.getResponseTimeMs(),
+                JdbcValues.timestamp(version.getScrapedAt()));
+        // Hand back what was stored: the HTML is not read back with the version
+        return new PageVersion(
+                version.getId(),
+                version.getPageId(),
+                version.getJobId(),
+                null,
+                version.getContentHash(),
+                version.getSimHash(),
+                version.getNearDuplicateOf(),
+                version.getHttpStatus(),
+                version.getResponseTimeMs(),
+                version.getScrapedAt());
+    }
+
+    @Override
+    public Optional<PageVersion> findById(UUID id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<PageVersion> findLatestByPageId(UUID pageId) {
+        return jpaRepository.findLatestByPageId(pageId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<String> findInlineHtml(UUID versionId) {
+        return jpaRepository.findRawHtmlById(versionId);
+    }
+
+    @Override
+    public VersionHistory findHistoryByPageId(UUID pageId) {
+        var row = jpaRepository.findHistoryByPageId(pageId);
+        long count = row != null && row.getVersionCount() != null ? row.getVersionCount() : 0;
+        return new VersionHistory(count, row != null ? row.getFirstScrapedAt() : null);
+    }
+
+    @Override
+    public List<UUID> findNearDuplicateIds(UUID targetId, SimHash simHash, int maxDistance, int limit) {
+        if (maxDistance >= SIM_HASH_BANDS) {
+            throw new IllegalArgumentException("Band index only covers distances up to " + (SIM_HASH_BANDS - 1));
+        }
+        return jpaRepository.findNearDuplicateIds(
+                targetId,
+                simHash.value(),
+                simHash.band(0, SIM_HASH_BANDS),
+                simHash.band(1, SIM_HASH_BANDS),
+                simHash.band(2, SIM_HASH_BANDS),
+                simHash.band(3, SIM_HASH_BANDS),
+                maxDistance,
+                limit);
+    }
+}
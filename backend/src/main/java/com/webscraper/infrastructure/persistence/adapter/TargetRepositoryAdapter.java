@@ -2,6 +2,8 @@ package com.webscraper.infrastructure.persistence.adapter;
 
 import com.webscraper.application.port.out.TargetRepository;
 import com.webscraper.domain.entity.Target;
+import com.webscraper.domain.valueobject.Cursor;
+import com.webscraper.infrastructure.persistence.counter.CounterStore;
 import com.webscraper.infrastructure.persistence.jpa.repository.JpaTargetRepository;
 import com.webscraper.infrastructure.persistence.mapper.TargetMapper;
 import org.springframework.data.domain.PageRequest;
@@ -16,10 +18,12 @@ public class TargetRepositoryAdapter implements TargetRepository {
     
     private final JpaTargetRepository jpaRepository;
     private final TargetMapper mapper;
+    private final CounterStore counters;
 
-    public TargetRepositoryAdapter(JpaTargetRepository jpaRepository, TargetMapper mapper) {
+    public TargetRepositoryAdapter(JpaTargetRepository jpaRepository, TargetMapper mapper, CounterStore counters) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.counters = counters;
     }
 
     @Override
@@ -35,10 +39,13 @@ public class TargetRepositoryAdapter implements TargetRepository {
     }
 
     @Override
-    public List<Target> findByUserId(UUID userId, int page, int size) {
-        return jpaRepository.findByUserIdAndIsActiveTrue(userId, PageRequest.of(page, size))
+    public List<Target> findByUserId(UUID userId, Cursor after, int limit) {
+        var entities = after == null
+                ? jpaRepository.findNewestActiveByUserId(userId, PageRequest.of(0, limit))
+                : jpaRepository.findActiveByUserIdBefore(userId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+        return entities.stream()
                 .map(mapper::toDomain)
-                .getContent();
+                .toList();
     }
 
     @Override
@@ -51,7 +58,7 @@ public class TargetRepositoryAdapter implements TargetRepository {
 
     @Override
     public long countByUserId(UUID userId) {
-        return jpaRepository.countByUserId(userId);
+        return counters.get(CounterStore.Kind.USER_TARGETS, userId);
     }
 
     @Override
@@ -0,0 +1,188 @@
+package com.webscraper.infrastructure.persistence.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of one crawl, split into fixed-size memory-mapped segment files.
+ *
+ * Record layout: [length:int][crc32:int][type:byte][payload], where length counts
+ * the type byte and the payload. Segments are pre-sized and zero-filled, so a zero
+ * length marks the end of the written part; a bad checksum marks a torn write.
+ * A reopened log always starts a new segment and never writes over old records.
+ */
+class CrawlSegmentLog {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    interface RecordHandler {
+        void onRecord(byte type, ByteBuffer payload);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer current;
+    private int currentIndex;
+    private int forcedPosition;
+
+    CrawlSegmentLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Integer> existing = segmentIndexes();
+        this.currentIndex = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+    }
+
+    synchronized void append(byte type, byte[] head, byte[] tail) {
+        int length = 1 + head.length + tail.length;
+        if (HEADER_BYTES + length > segmentSize) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit in a segment");
+        }
+        if (current == null || current.remaining() < HEADER_BYTES + length) {
+            roll();
+        }
+
+        int start = current.position();
+        current.position(start + HEADER_BYTES);
+        current.put(type).put(head).put(tail);
+
+        crc.reset();
+        crc.update(current.slice(start + HEADER_BYTES, length));
+        current.putInt(start + 4, (int) crc.getValue());
+        current.putInt(start, length);
+    }
+
+    /**
+     * Flush written records of the current segment to disk.
+     */
+    synchronized void force() {
+        if (current == null || current.position() == forcedPosition) {
+            return;
+        }
+        current.force(forcedPosition, current.position() - forcedPosition);
+        forcedPosition = current.position();
+    }
+
+    /**
+     * Feed every intact record, oldest first, to the handler.
+     */
+    synchronized void replay(RecordHandler handler) {
+        for (int index : segmentIndexes()) {
+            MappedByteBuffer segment = index == currentIndex && current != null ? current : map(index, true);
+            replaySegment(segment.duplicate().position(0), handler);
+        }
+    }
+
+    /**
+     * Continue in a fresh segment and return its index; older segments can then be deleted.
+     */
+    synchronized int startSegment() {
+        roll();
+        return currentIndex;
+    }
+
+    synchronized int segmentCount() {
+        return segmentIndexes().size();
+    }
+
+    synchronized void deleteSegmentsBefore(int index) {
+        for (int existing : segmentIndexes()) {
+            if (existing < index) {
+                delete(segmentPath(existing));
+            }
+        }
+    }
+
+    synchronized void deleteAll() {
+        current = null;
+        for (int existing : segmentIndexes()) {
+            delete(segmentPath(existing));
+        }
+        delete(directory);
+    }
+
+    private void replaySegment(ByteBuffer segment, RecordHandler handler) {
+        while (segment.remaining() >= HEADER_BYTES) {
+            int start = segment.position();
+            int length = segment.getInt(start);
+            if (length <= 0 || length > segment.remaining() - HEADER_BYTES) {
+                return;
+            }
+            crc.reset();
+            crc.update(segment.slice(start + HEADER_BYTES, length));
+            if ((int) crc.getValue() != segment.getInt(start + 4)) {
+                return;
+            }
+            byte type = segment.get(start + HEADER_BYTES);
+            handler.onRecord(type, segment.slice(start + HEADER_BYTES + 1, length - 1));
+            segment.position(start + HEADER_BYTES + length);
+        }
+    }
+
+    private void roll() {
+        if (current != null) {
+            force();
+        }
+        currentIndex++;
+        current = map(currentIndex, false);
+        forcedPosition = 0;
+    }
+
+    private MappedByteBuffer map(int index, boolean readOnly) {
+        Path path = segmentPath(index);
+        try (FileChannel channel = readOnly
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = readOnly ? channel.size() : segmentSize;
+            return channel.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Integer> segmentIndexes() {
+        List<Integer> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(indexes::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return indexes;
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.webscraper.infrastructure.persistence.checkpoint;
+
+import com.webscraper.application.port.out.CrawlStateStore;
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import com.webscraper.domain.valueobject.UrlHash;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crawl state kept in memory-mapped, append-only segment files, one directory per job.
+ *
+ * Appends are plain memory writes; dirty pages are forced to disk every checkpoint
+ * interval, so a crash loses at most that much progress. Loading replays the local
+ * segments sequentially. Every reopen starts a new segment, so once a job has more
+ * than a few segments the load also rewrites the state as a compact snapshot.
+ */
+public class MappedCrawlStateStore implements CrawlStateStore, AutoCloseable {
+
+    private static final byte ENQUEUED = 1;
+    private static final byte VISITED = 2;
+    private static final byte HOST_CURSOR = 3;
+
+    private static final int MAX_URL_BYTES = 16 * 1024;
+    private static final int COMPACT_AFTER_SEGMENTS = 4;
+
+    private final Path baseDirectory;
+    private final int segmentSize;
+    private final Map<UUID, CrawlSegmentLog> logs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "crawl-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MappedCrawlStateStore(Path baseDirectory, int segmentSize, Duration checkpointInterval) {
+        if (segmentSize < MAX_URL_BYTES * 4) {
+            throw new IllegalArgumentException("Segment size must be at least " + MAX_URL_BYTES * 4 + " bytes");
+        }
+        this.baseDirectory = baseDirectory;
+        this.segmentSize = segmentSize;
+        long intervalMs = checkpointInterval.toMillis();
+        checkpointer.scheduleWithFixedDelay(this::checkpointAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void enqueued(UUID jobId, String url) {
+        byte[] encoded = url.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_URL_BYTES) {
+            throw new IllegalArgumentException("URL longer than " + MAX_URL_BYTES + " bytes");
+        }
+        logFor(jobId).append(ENQUEUED, hashBytes(urlKey(url)), encoded);
+    }
+
+    @Override
+    public void visited(UUID jobId, String url) {
+        appendVisited(logFor(jobId), urlKey(url));
+    }
+
+    @Override
+    public void hostCursor(UUID jobId, String host, long cursor) {
+        byte[] value = ByteBuffer.allocate(Long.BYTES).putLong(cursor).array();
+        logFor(jobId).append(HOST_CURSOR, value, host.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void checkpoint(UUID jobId) {
+        CrawlSegmentLog log = logs.get(jobId);
+        if (log != null) {
+            log.force();
+        }
+    }
+
+    @Override
+    public CrawlState load(UUID jobId) {
+        CrawlSegmentLog log = logFor(jobId);
+        synchronized (log) {
+            Map<UrlHash, String> frontier = new LinkedHashMap<>();
+            Set<UrlHash> visited = new HashSet<>();
+            Map<String, Long> hostCursors = new HashMap<>();
+            // Segments written before the key algorithm changed: their keys mapped to current ones
+            Map<UrlHash, UrlHash> rekeyed = new HashMap<>();
+
+            log.replay((type, payload) -> {
+                switch (type) {
+                    case ENQUEUED -> {
+                        UrlHash hash = readHash(payload);
+                        String url = readString(payload);
+                        if (hash.algorithm() != URL_KEY_ALGORITHM) {
+                            UrlHash current = urlKey(url);
+                            rekeyed.put(hash, current);
+                            hash = current;
+                        }
+                        if (!visited.contains(hash)) {
+                            frontier.putIfAbsent(hash, url);
+                        }
+                    }
+                    case VISITED -> {
+                        UrlHash hash = readHash(payload);
+                        if (hash.algorithm() != URL_KEY_ALGORITHM) {
+                            hash = rekeyed.getOrDefault(hash, hash);
+                        }
+                        visited.add(hash);
+                        frontier.remove(hash);
+                    }
+                    case HOST_CURSOR -> {
+                        long cursor = payload.getLong();
+                        hostCursors.put(readString(payload), cursor);
+                    }
+                    default -> {
+                        // Unknown record from a newer version; skip it
+                    }
+                }
+            });
+
+            if (log.segmentCount() > COMPACT_AFTER_SEGMENTS) {
+                compact(jobId, log, frontier.values(), visited, hostCursors);
+            }
+            return new CrawlState(new ArrayList<>(frontier.values()), visited, hostCursors);
+        }
+    }
+
+    @Override
+    public void discard(UUID jobId) {
+        CrawlSegmentLog log = logs.remove(jobId);
+        (log != null ? log : new CrawlSegmentLog(directoryOf(jobId), segmentSize)).deleteAll();
+    }
+
+    @Override
+    public void close() {
+        checkpointer.shutdown();
+        checkpointAll();
+    }
+
+    // Old segments are only deleted once the snapshot is on disk; replaying both is harmless
+    private void compact(UUID jobId, CrawlSegmentLog log, Iterable<String> frontier, Set<UrlHash> visited,
+                         Map<String, Long> hostCursors) {
+        int snapshotStart = log.startSegment();
+        for (UrlHash hash : visited) {
+            appendVisited(log, hash);
+        }
+        for (String url : frontier) {
+            enqueued(jobId, url);
+        }
+        hostCursors.forEach((host, cursor) -> hostCursor(jobId, host, cursor));
+        log.force();
+        log.deleteSegmentsBefore(snapshotStart);
+    }
+
+    private static UrlHash urlKey(String url) {
+        return UrlHash.of(url, URL_KEY_ALGORITHM);
+    }
+
+    private static void appendVisited(CrawlSegmentLog log, UrlHash urlHash) {
+        log.append(VISITED, hashBytes(urlHash), new byte[0]);
+    }
+
+    private void checkpointAll() {
+        logs.values().forEach(CrawlSegmentLog::force);
+    }
+
+    private CrawlSegmentLog logFor(UUID jobId) {
+        return logs.computeIfAbsent(jobId, id -> new CrawlSegmentLog(directoryOf(id), segmentSize));
+    }
+
+    private Path directoryOf(UUID jobId) {
+        return baseDirectory.resolve(jobId.toString());
+    }
+
+    // Algorithm id, then the digest words
+    private static byte[] hashBytes(UrlHash urlHash) {
+        byte[] digest = urlHash.toBytes();
+        byte[] bytes = new byte[1 + digest.length];
+        bytes[0] = (byte) urlHash.algorithm().id();
+        System.arraycopy(digest, 0, bytes, 1, digest.length);
+        return bytes;
+    }
+
+    private static UrlHash readHash(ByteBuffer payload) {
+        HashAlgorithm algorithm = HashAlgorithm.fromId(payload.get());
+        long[] words = new long[4];
+        for (int i = 0; i < algorithm.byteLength() / Long.BYTES; i++) {
+            words[i] = payload.getLong();
+        }
+        return new UrlHash(algorithm, words[0], words[1], words[2], words[3]);
+    }
+
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
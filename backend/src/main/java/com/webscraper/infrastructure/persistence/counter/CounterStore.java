@@ -0,0 +1,78 @@
+package com.webscraper.infrastructure.persistence.counter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the row counts kept in the counters table.
+ *
+ * The database maintains the counts with triggers, so reading one is a
+ * primary key lookup however many rows it counts. Counts can optionally be
+ * cached in memory for a short time, for callers that accept a count that
+ * is a few seconds behind.
+ */
+public class CounterStore {
+
+    public enum Kind {
+        TARGET_PAGES("target_pages"),
+        PAGE_VERSIONS("page_versions"),
+        USER_TARGETS("user_targets");
+
+        private final String value;
+
+        Kind(String value) {
+            this.value = value;
+        }
+    }
+
+    private record Key(Kind kind, UUID ownerId) {}
+
+    private record Cached(long value, long expiresAt) {}
+
+    private final JdbcTemplate jdbc;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Key, Cached> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttl        how long a count may be served from memory; zero disables the cache
+     * @param maxEntries cached counts kept at most; the cache is emptied when it is full
+     */
+    public CounterStore(JdbcTemplate jdbc, Duration ttl, int maxEntries) {
+        this.jdbc = jdbc;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the count, 0 for an owner that has never had any rows
+     */
+    public long get(Kind kind, UUID ownerId) {
+        if (ttlNanos == 0) {
+            return read(kind, ownerId);
+        }
+        Key key = new Key(kind, ownerId);
+        long now = System.nanoTime();
+        Cached cached = cache.get(key);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.value();
+        }
+        long value = read(kind, ownerId);
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key, new Cached(value, now + ttlNanos));
+        return value;
+    }
+
+    private long read(Kind kind, UUID ownerId) {
+        List<Long> values = jdbc.queryForList(
+                "SELECT value FROM counters WHERE kind = ? AND owner_id = ?", Long.class, kind.value, ownerId);
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+}
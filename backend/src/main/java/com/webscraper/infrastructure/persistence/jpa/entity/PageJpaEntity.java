@@ -7,7 +7,8 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "pages")
+@Table(name = "pages", uniqueConstraints = @UniqueConstraint(
+        name = "uk_pages_target_url_hash", columnNames = {"target_id", "url_hash"}))
 public class PageJpaEntity {
     
     @Id
@@ -23,8 +24,11 @@ public class PageJpaEntity {
     @Column(nullable = false)
     private String url;
     
-    @Column(name = "url_hash", nullable = false, unique = true)
-    private String urlHash;
+    @Column(name = "url_hash", nullable = false, length = 32)
+    private byte[] urlHash;
+    
+    @Column(name = "url_hash_algorithm", nullable = false)
+    private Short urlHashAlgorithm = 1;
     
     @Column(name = "last_scraped_at")
     private Instant lastScrapedAt;
@@ -32,9 +36,29 @@ public class PageJpaEntity {
     @Column(name = "scrape_count")
     private Integer scrapeCount = 0;
     
+    @Column(name = "change_rate")
+    private Double changeRate;
+    
+    @Column(name = "next_scrape_at")
+    private Instant nextScrapeAt;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
+    
+    // Maintained by a database trigger when versions are written
+    @Column(name = "latest_version_id", insertable = false, updatable = false)
+    private UUID latestVersionId;
+    
+    @Column(name = "latest_version_at", insertable = false, updatable = false)
+    private Instant latestVersionAt;
+    
+    // Lifetime counts for the change-rate estimate: the version trigger and the scrape upsert keep them
+    @Column(name = "versions_recorded", insertable = false, updatable = false)
+    private Integer versionsRecorded;
+    
+    @Column(name = "first_scraped_at", insertable = false, updatable = false)
+    private Instant firstScrapedAt;
 
     // Getters and Setters
     public UUID getId() { return id; }
@@ -49,8 +73,11 @@ public class PageJpaEntity {
     public String getUrl() { return url; }
     public void setUrl(String url) { this.url = url; }
     
-    public String getUrlHash() { return urlHash; }
-    public void setUrlHash(String urlHash) { this.urlHash = urlHash; }
+    public byte[] getUrlHash() { return urlHash; }
+    public void setUrlHash(byte[] urlHash) { this.urlHash = urlHash; }
+    
+    public Short getUrlHashAlgorithm() { return urlHashAlgorithm; }
+    public void setUrlHashAlgorithm(Short urlHashAlgorithm) { this.urlHashAlgorithm = urlHashAlgorithm; }
     
     public Instant getLastScrapedAt() { return lastScrapedAt; }
     public void setLastScrapedAt(Instant lastScrapedAt) { this.lastScrapedAt = lastScrapedAt; }
@@ -58,6 +85,20 @@ public class PageJpaEntity {
     public Integer getScrapeCount() { return scrapeCount; }
     public void setScrapeCount(Integer scrapeCount) { this.scrapeCount = scrapeCount; }
     
+    public Double getChangeRate() { return changeRate; }
+    public void setChangeRate(Double changeRate) { this.changeRate = changeRate; }
+    
+    public Instant getNextScrapeAt() { return nextScrapeAt; }
+    public void setNextScrapeAt(Instant nextScrapeAt) { this.nextScrapeAt = nextScrapeAt; }
+    
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    
+    public UUID getLatestVersionId() { return latestVersionId; }
+    
+    public Instant getLatestVersionAt() { return latestVersionAt; }
+    
+    public Integer getVersionsRecorded() { return versionsRecorded; }
+    
+    public Instant getFirstScrapedAt() { return firstScrapedAt; }
 }
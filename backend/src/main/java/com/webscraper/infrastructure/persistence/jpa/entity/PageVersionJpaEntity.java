@@ -0,0 +1,72 @@
+package com.webscraper.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "page_versions")
+public class PageVersionJpaEntity {
+    
+    @Id
+    private UUID id;
+    
+    @Column(name = "page_id", nullable = false)
+    private UUID pageId;
+    
+    @Column(name = "job_id")
+    private UUID jobId;
+    
+    @Column(name = "content_hash", nullable = false, length = 32)
+    private byte[] contentHash;
+    
+    @Column(name = "content_hash_algorithm", nullable = false)
+    private Short contentHashAlgorithm = 1;
+    
+    @Column(name = "sim_hash")
+    private Long simHash;
+    
+    @Column(name = "near_duplicate_of")
+    private UUID nearDuplicateOf;
+    
+    @Column(name = "http_status", nullable = false)
+    private Integer httpStatus = 200;
+    
+    @Column(name = "response_time_ms")
+    private Integer responseTimeMs;
+    
+    @Column(name = "scraped_at", nullable = false, updatable = false)
+    private Instant scrapedAt;
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    
+    public UUID getPageId() { return pageId; }
+    public void setPageId(UUID pageId) { this.pageId = pageId; }
+    
+    public UUID getJobId() { return jobId; }
+    public void setJobId(UUID jobId) { this.jobId = jobId; }
+    
+    public byte[] getContentHash() { return contentHash; }
+    public void setContentHash(byte[] contentHash) { this.contentHash = contentHash; }
+    
+    public Short getContentHashAlgorithm() { return contentHashAlgorithm; }
+    public void setContentHashAlgorithm(Short contentHashAlgorithm) { this.contentHashAlgorithm = contentHashAlgorithm; }
+    
+    public Long getSimHash() { return simHash; }
+    public void setSimHash(Long simHash) { this.simHash = simHash; }
+    
+    public UUID getNearDuplicateOf() { return nearDuplicateOf; }
+    public void setNearDuplicateOf(UUID nearDuplicateOf) { this.nearDuplicateOf = nearDuplicateOf; }
+    
+    public Integer getHttpStatus() { return httpStatus; }
+    public void setHttpStatus(Integer httpStatus) { this.httpStatus = httpStatus; }
+    
+    public Integer getResponseTimeMs() { return responseTimeMs; }
+    public void setResponseTimeMs(Integer responseTimeMs) { this.responseTimeMs = responseTimeMs; }
+    
+    public Instant getScrapedAt() { return scrapedAt; }
+    public void setScrapedAt(Instant scrapedAt) { this.scrapedAt = scrapedAt; }
+}
@@ -1,91 +0,0 @@
-package com.webscraper.infrastructure.persistence.jpa.entity;
-
-import io.hypersistence.utils.hibernate.type.json.JsonType;
-import jakarta.persistence.*;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.Type;
-
-import java.time.Instant;
-import java.util.Map;
-import java.util.UUID;
-
-@Entity
-@Table(name = "scrape_jobs")
-public class ScrapeJobJpaEntity {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
-    
-    @Column(name = "target_id", nullable = false)
-    private UUID targetId;
-    
-    @Column(name = "user_id", nullable = false)
-    private UUID userId;
-    
-    @Column(nullable = false)
-    private String status = "PENDING";
-    
-    @Type(JsonType.class)
-    @Column(columnDefinition = "jsonb")
-    private Map<String, Object> config;
-    
-    @Column(name = "scheduled_at")
-    private Instant scheduledAt;
-    
-    @Column(name = "started_at")
-    private Instant startedAt;
-    
-    @Column(name = "completed_at")
-    private Instant completedAt;
-    
-    @Column(name = "pages_found")
-    private Integer pagesFound = 0;
-    
-    @Column(name = "pages_scraped")
-    private Integer pagesScraped = 0;
-    
-    @Column(name = "error_message")
-    private String errorMessage;
-    
-    @CreationTimestamp
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private Instant createdAt;
-
-    // Getters and Setters
-    public UUID getId() { return id; }
-    public void setId(UUID id) { this.id = id; }
-    
-    public UUID getTargetId() { return targetId; }
-    public void setTargetId(UUID targetId) { this.targetId = targetId; }
-    
-    public UUID getUserId() { return userId; }
-    public void setUserId(UUID userId) { this.userId = userId; }
-    
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
-    
-    public Map<String, Object> getConfig() { return config; }
-    public void setConfig(Map<String, Object> config) { this.config = config; }
-    
-    public Instant getScheduledAt() { return scheduledAt; }
-    public void setScheduledAt(Instant scheduledAt) { this.scheduledAt = scheduledAt; }
-    
-    public Instant getStartedAt() { return startedAt; }
-    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
-    
-    public Instant getCompletedAt() { return completedAt; }
-    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
-    
-    public Integer getPagesFound() { return pagesFound; }
-    public void setPagesFound(Integer pagesFound) { this.pagesFound = pagesFound; }
-    
-    public Integer getPagesScraped() { return pagesScraped; }
-    public void setPagesScraped(Integer pagesScraped) { this.pagesScraped = pagesScraped; }
-    
-    public String getErrorMessage() { return errorMessage; }
-    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
-    
-    public Instant getCreatedAt() { return createdAt; }
-    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
-}
@@ -36,6 +36,12 @@ public class TargetJpaEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
     
+    @Column(name = "version_retention_count")
+    private Integer versionRetentionCount;
+    
+    @Column(name = "version_retention_days")
+    private Integer versionRetentionDays;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -66,6 +72,12 @@ public class TargetJpaEntity {
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
     
+    public Integer getVersionRetentionCount() { return versionRetentionCount; }
+    public void setVersionRetentionCount(Integer versionRetentionCount) { this.versionRetentionCount = versionRetentionCount; }
+    
+    public Integer getVersionRetentionDays() { return versionRetentionDays; }
+    public void setVersionRetentionDays(Integer versionRetentionDays) { this.versionRetentionDays = versionRetentionDays; }
+    
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,57 @@
+package com.webscraper.infrastructure.persistence.jpa.repository;
+
+import com.webscraper.infrastructure.persistence.jpa.entity.PageVersionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JpaPageVersionRepository extends JpaRepository<PageVersionJpaEntity, UUID> {
+    
+    // Follows the page's latest-version pointer; (id, scrapedAt) is the primary key of one partition
+    @Query("""
+        SELECT v FROM PageJpaEntity p, PageVersionJpaEntity v
+        WHERE p.id = :pageId AND v.id = p.latestVersionId AND v.scrapedAt = p.latestVersionAt
+        """)
+    Optional<PageVersionJpaEntity> findLatestByPageId(UUID pageId);
+    
+    interface HistoryRow {
+        Long getVersionCount();
+        Instant getFirstScrapedAt();
+    }
+    
+    // Read from the page's lifetime counts, which retention and archiving leave alone
+    @Query("""
+        SELECT CAST(p.versionsRecorded AS Long) AS versionCount, p.firstScrapedAt AS firstScrapedAt
+        FROM PageJpaEntity p WHERE p.id = :pageId
+        """)
+    HistoryRow findHistoryByPageId(UUID pageId);
+    
+    // raw_html is not mapped on the entity, so only this explicit read loads it
+    @Query(value = "SELECT raw_html FROM page_versions WHERE id = :id", nativeQuery = true)
+    Optional<String> findRawHtmlById(UUID id);
+    
+    /**
+     * Candidates share at least one 16-bit band (served by idx_versions_sim_band_*),
+     * then the exact Hamming distance is checked. Only the target's own pages are
+     * searched, so a version is never linked to another tenant's content.
+     */
+    @Query(value = """
+        SELECT pv.id FROM page_versions pv
+        JOIN pages p ON p.id = pv.page_id
+        WHERE p.target_id = :targetId
+          AND (((pv.sim_hash >> 48) & 65535) = :b0
+            OR ((pv.sim_hash >> 32) & 65535) = :b1
+            OR ((pv.sim_hash >> 16) & 65535) = :b2
+            OR (pv.sim_hash & 65535) = :b3)
+          AND bit_count((pv.sim_hash # :simHash)::bit(64)) <= :maxDistance
+        ORDER BY pv.scraped_at DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findNearDuplicateIds(UUID targetId, long simHash, int b0, int b1, int b2, int b3, int maxDistance, int limit);
+}
@@ -1,20 +1,33 @@
 package com.webscraper.infrastructure.persistence.jpa.repository;
 
 import com.webscraper.infrastructure.persistence.jpa.entity.TargetJpaEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaTargetRepository extends JpaRepository<TargetJpaEntity, UUID> {
     
-    Page<TargetJpaEntity> findByUserIdAndIsActiveTrue(UUID userId, Pageable pageable);
+    @Query("""
+        SELECT t FROM TargetJpaEntity t
+        WHERE t.userId = :userId AND t.isActive = true
+        ORDER BY t.createdAt DESC, t.id DESC
+        """)
+    List<TargetJpaEntity> findNewestActiveByUserId(UUID userId, Pageable pageable);
     
-    List<TargetJpaEntity> findByUserIdAndIsActiveTrue(UUID userId);
+    // (createdAt, id) < (:createdAt, :id), spelled out with a plain bound the index can seek to
+    @Query("""
+        SELECT t FROM TargetJpaEntity t
+        WHERE t.userId = :userId AND t.isActive = true
+          AND t.createdAt <= :createdAt AND (t.createdAt < :createdAt OR t.id < :id)
+        ORDER BY t.createdAt DESC, t.id DESC
+        """)
+    List<TargetJpaEntity> findActiveByUserIdBefore(UUID userId, Instant createdAt, UUID id, Pageable pageable);
     
-    long countByUserId(UUID userId);
+    List<TargetJpaEntity> findByUserIdAndIsActiveTrue(UUID userId);
 }
@@ -0,0 +1,343 @@
+package com.webscraper.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Background maintenance of the monthly page_versions partitions.
+ *
+ * Each run creates the partitions for the coming months, deletes versions
+ * that have expired under their target's retention policy, and removes old
+ * partitions: emptied ones are dropped, and with an archive horizon set,
+ * whole partitions older than it are moved to the archive schema. Archived
+ * partitions are recorded in archived_partitions before they are detached,
+ * and what their detach leaves behind is repaired once, on a later run if
+ * this one stops part way.
+ *
+ * Instances take turns: a run holds a session advisory lock for its whole
+ * duration and is skipped when another instance holds it.
+ *
+ * Nothing here holds long locks. Deletes run in small autocommitted batches,
+ * and partitions leave the table through DETACH PARTITION CONCURRENTLY, which
+ * waits for running queries instead of blocking new ones. DDL gives up after
+ * the lock timeout and is retried on the next run.
+ */
+public class PageVersionCompactor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PageVersionCompactor.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("page_versions_(\\d{4})_(\\d{2})");
+    private static final String LOCK_TIMEOUT = "5s";
+    private static final String RUN_LOCK = "hashtext('page_version_compactor')";
+    private static final int PAGES_PER_WINDOW = 500;
+    private static final Timestamp WALK_START = Timestamp.from(Instant.parse("9999-12-31T00:00:00Z"));
+
+    // Pages of one target, newest first from a (created_at, id) position (idx_pages_target_created)
+    private static final String PAGE_WINDOW = """
+        SELECT created_at, id FROM pages
+        WHERE target_id = ? AND (created_at, id) < (?, ?)
+        ORDER BY created_at DESC, id DESC
+        LIMIT ?
+        """;
+
+    // Expired versions of one window of a target's pages, oldest first; rank 1 is a page's
+    // newest version. Only the window's histories are ranked, not the whole target's.
+    private static final String EXPIRED_VERSIONS = """
+        SELECT id, scraped_at FROM (
+            SELECT pv.id, pv.scraped_at,
+                   row_number() OVER (PARTITION BY pv.page_id ORDER BY pv.scraped_at DESC) AS newest
+            FROM page_versions pv
+            JOIN pages p ON p.id = pv.page_id
+            WHERE p.target_id = ?
+              AND (p.created_at, p.id) < (?, ?) AND (p.created_at, p.id) >= (?, ?)
+        ) ranked
+        WHERE newest > 1 %s
+        ORDER BY scraped_at
+        LIMIT ?
+        """;
+
+    // Detaching fires no delete triggers, so this does their work for an archived partition:
+    // drop its versions' chunks and links to them, take them off the counters, and repoint
+    // pages whose latest version it held, usually to none: unlike retention, archiving can
+    // remove a page's newest version. One statement, so it applies together with the
+    // archived_partitions mark, and only while that is unset: retries never subtract twice.
+    private static final String REPAIR_ARCHIVED = """
+        WITH claimed AS (
+            UPDATE archived_partitions SET repaired_at = CURRENT_TIMESTAMP
+            WHERE partition_name = ? AND repaired_at IS NULL
+            RETURNING partition_name
+        ),
+        archived AS (
+            SELECT id, page_id FROM %1$s WHERE EXISTS (SELECT 1 FROM claimed)
+        ),
+        dropped_chunks AS (
+            DELETE FROM chunks WHERE page_version_id IN (SELECT id FROM archived)
+        ),
+        unlinked AS (
+            UPDATE page_versions SET near_duplicate_of = NULL
+            WHERE near_duplicate_of IN (SELECT id FROM archived)
+        ),
+        uncounted AS (
+            UPDATE counters c SET value = c.value - d.n
+            FROM (SELECT page_id, count(*) AS n FROM archived GROUP BY page_id) d
+            WHERE c.kind = 'page_versions' AND c.owner_id = d.page_id
+        )
+        UPDATE pages p SET (latest_version_id, latest_version_at) = (
+            SELECT pv.id, pv.scraped_at FROM page_versions pv
+            WHERE pv.page_id = p.id
+            ORDER BY pv.scraped_at DESC, pv.id DESC
+            LIMIT 1)
+        WHERE p.latest_version_id IN (SELECT id FROM archived)
+        """;
+
+    // Chunks and near-duplicate links of the deleted versions go with them (V22 trigger)
+    private static final String DELETE_EXPIRED = """
+        WITH expired AS (%s)
+        DELETE FROM page_versions pv USING expired e
+        WHERE pv.id = e.id AND pv.scraped_at = e.scraped_at
+        """;
+
+    private final JdbcTemplate jdbc;
+    private final int partitionsAhead;
+    private final int batchSize;
+    private final int archiveAfterMonths;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "page-version-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param partitionsAhead    months of partitions to keep created ahead of the current one
+     * @param batchSize          expired versions deleted per statement
+     * @param archiveAfterMonths move partitions this many months old to the archive schema; 0 never archives
+     * @param initialDelay       time from startup to the first run
+     * @param interval           time between runs; zero disables scheduled runs
+     */
+    public PageVersionCompactor(JdbcTemplate jdbc, int partitionsAhead, int batchSize, int archiveAfterMonths,
+                                Duration initialDelay, Duration interval) {
+        this.jdbc = jdbc;
+        this.partitionsAhead = partitionsAhead;
+        this.batchSize = batchSize;
+        this.archiveAfterMonths = archiveAfterMonths;
+        if (!interval.isZero()) {
+            scheduler.scheduleWithFixedDelay(this::runSafely, initialDelay.toMillis(), interval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs one compaction unless another instance is running one.
+     *
+     * @return false when the run was skipped
+     */
+    public boolean compact() {
+        // Session lock on a connection held for the run; the work itself uses other pooled connections
+        Boolean ran = jdbc.execute((ConnectionCallback<Boolean>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + RUN_LOCK + ")")) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return false;
+                    }
+                }
+                try {
+                    createUpcomingPartitions();
+                    finishPendingDetaches();
+                    finishArchiving();
+                    applyRetention();
+                    removeOldPartitions();
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + RUN_LOCK + ")");
+                }
+                return true;
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    private void runSafely() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next run picks up where this one failed
+            log.warn("Page version compaction failed", e);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        Integer created = jdbc.queryForObject(
+                "SELECT fn_ensure_page_versions_partitions(CURRENT_TIMESTAMP, ?)", Integer.class, partitionsAhead);
+        if (created != null && created > 0) {
+            log.info("Created {} page_versions partitions", created);
+        }
+    }
+
+    // A concurrent detach that was interrupted leaves the partition half detached until finalized
+    private void finishPendingDetaches() {
+        List<String> pending = jdbc.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'page_versions'::regclass AND i.inhdetachpending
+                """, String.class);
+        for (String partition : pending) {
+            executeDdl("ALTER TABLE page_versions DETACH PARTITION " + partition + " FINALIZE");
+        }
+    }
+
+    // Archived partitions whose repair or move did not happen, because a run stopped after the detach
+    private void finishArchiving() {
+        List<String> unrepaired = jdbc.queryForList("""
+                SELECT a.partition_name FROM archived_partitions a
+                WHERE a.repaired_at IS NULL
+                  AND to_regclass(a.partition_name) IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM pg_inherits i
+                                  WHERE i.inhrelid = to_regclass(a.partition_name))
+                """, String.class);
+        for (String partition : unrepaired) {
+            repairArchived(partition);
+        }
+        List<String> unmoved = jdbc.queryForList("""
+                SELECT partition_name FROM archived_partitions
+                WHERE repaired_at IS NOT NULL AND to_regclass(partition_name) IS NOT NULL
+                """, String.class);
+        for (String partition : unmoved) {
+            moveToArchive(partition);
+        }
+    }
+
+    private void applyRetention() {
+        List<Map<String, Object>> targets = jdbc.queryForList("""
+                SELECT id, version_retention_count, version_retention_days FROM targets
+                WHERE version_retention_count IS NOT NULL OR version_retention_days IS NOT NULL
+                """);
+        for (Map<String, Object> target : targets) {
+            UUID targetId = (UUID) target.get("id");
+            Integer keepVersions = (Integer) target.get("version_retention_count");
+            Integer keepDays = (Integer) target.get("version_retention_days");
+
+            StringBuilder conditions = new StringBuilder();
+            List<Object> conditionArgs = new ArrayList<>();
+            if (keepVersions != null) {
+                conditions.append(" AND newest > ?");
+                conditionArgs.add(keepVersions);
+            }
+            if (keepDays != null) {
+                conditions.append(" AND scraped_at < CURRENT_TIMESTAMP - make_interval(days => ?)");
+                conditionArgs.add(keepDays);
+            }
+            String sql = DELETE_EXPIRED.formatted(EXPIRED_VERSIONS.formatted(conditions));
+
+            long deleted = 0;
+            Timestamp fromCreatedAt = WALK_START;
+            UUID fromId = new UUID(-1L, -1L);
+            while (true) {
+                List<Map<String, Object>> window = jdbc.queryForList(
+                        PAGE_WINDOW, targetId, fromCreatedAt, fromId, PAGES_PER_WINDOW);
+                if (window.isEmpty()) {
+                    break;
+                }
+                Map<String, Object> last = window.get(window.size() - 1);
+                Timestamp toCreatedAt = (Timestamp) last.get("created_at");
+                UUID toId = (UUID) last.get("id");
+
+                List<Object> args = new ArrayList<>(List.of(targetId, fromCreatedAt, fromId, toCreatedAt, toId));
+                args.addAll(conditionArgs);
+                args.add(batchSize);
+                int batch;
+                do {
+                    batch = jdbc.update(sql, args.toArray());
+                    deleted += batch;
+                } while (batch == batchSize);
+
+                if (window.size() < PAGES_PER_WINDOW) {
+                    break;
+                }
+                fromCreatedAt = toCreatedAt;
+                fromId = toId;
+            }
+            if (deleted > 0) {
+                log.info("Deleted {} expired page versions of target {}", deleted, targetId);
+            }
+        }
+    }
+
+    private void removeOldPartitions() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        List<String> partitions = jdbc.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'page_versions'::regclass
+                ORDER BY c.relname
+                """, String.class);
+        for (String partition : partitions) {
+            Matcher name = PARTITION_NAME.matcher(partition);
+            if (!name.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(name.group(1)), Integer.parseInt(name.group(2)));
+            if (!month.isBefore(currentMonth)) {
+                continue;
+            }
+            boolean empty = !Boolean.TRUE.equals(jdbc.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class));
+            if (empty) {
+                executeDdl("ALTER TABLE page_versions DETACH PARTITION " + partition + " CONCURRENTLY");
+                executeDdl("DROP TABLE " + partition);
+                log.info("Dropped empty partition {}", partition);
+            } else if (archiveAfterMonths > 0 && !month.plusMonths(archiveAfterMonths).isAfter(currentMonth)) {
+                // Recorded first, so a run that stops after the detach is finished by the next one
+                jdbc.update("INSERT INTO archived_partitions (partition_name) VALUES (?) ON CONFLICT DO NOTHING",
+                        partition);
+                executeDdl("ALTER TABLE page_versions DETACH PARTITION " + partition + " CONCURRENTLY");
+                repairArchived(partition);
+                moveToArchive(partition);
+            }
+        }
+    }
+
+    private void repairArchived(String partition) {
+        jdbc.update(REPAIR_ARCHIVED.formatted(partition), partition);
+    }
+
+    private void moveToArchive(String partition) {
+        executeDdl("ALTER TABLE " + partition + " SET SCHEMA archive");
+        log.info("Archived partition {}", partition);
+    }
+
+    // The lock timeout is set on the pooled connection for this one statement and reset before it is returned
+    private void executeDdl(String ddl) {
+        jdbc.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET lock_timeout = '" + LOCK_TIMEOUT + "'");
+                try {
+                    statement.execute(ddl);
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                }
+            }
+            return null;
+        });
+    }
+}
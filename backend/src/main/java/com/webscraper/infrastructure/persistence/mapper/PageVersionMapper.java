@@ -0,0 +1,27 @@
+package com.webscraper.infrastructure.persistence.mapper;
+
+import com.webscraper.domain.entity.PageVersion;
+import com.webscraper.domain.valueobject.ContentHash;
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import com.webscraper.domain.valueobject.SimHash;
+import com.webscraper.infrastructure.persistence.jpa.entity.PageVersionJpaEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageVersionMapper {
+    
+    public PageVersion toDomain(PageVersionJpaEntity entity) {
+        return new PageVersion(
+            entity.getId(),
+            entity.getPageId(),
+            entity.getJobId(),
+            null,  // HTML is read explicitly, see PageVersionRepository.findInlineHtml
+            ContentHash.fromBytes(HashAlgorithm.fromId(entity.getContentHashAlgorithm()), entity.getContentHash()),
+            entity.getSimHash() != null ? new SimHash(entity.getSimHash()) : null,
+            entity.getNearDuplicateOf(),
+            entity.getHttpStatus() != null ? entity.getHttpStatus() : 200,
+            entity.getResponseTimeMs(),
+            entity.getScrapedAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.webscraper.infrastructure.persistence.mapper;
 
 import com.webscraper.domain.entity.Target;
+import com.webscraper.domain.valueobject.RetentionPolicy;
 import com.webscraper.infrastructure.persistence.jpa.entity.TargetJpaEntity;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +19,7 @@ public class TargetMapper {
             entity.getDescription(),
             entity.getScrapeConfig() != null ? entity.getScrapeConfig() : Map.of(),
             entity.getIsActive(),
+            new RetentionPolicy(entity.getVersionRetentionCount(), entity.getVersionRetentionDays()),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
@@ -32,6 +34,8 @@ public class TargetMapper {
         entity.setDescription(target.getDescription());
         entity.setScrapeConfig(target.getScrapeConfig());
         entity.setIsActive(target.isActive());
+        entity.setVersionRetentionCount(target.getRetention().keepVersions());
+        entity.setVersionRetentionDays(target.getRetention().keepDays());
         entity.setCreatedAt(target.getCreatedAt());
         entity.setUpdatedAt(target.getUpdatedAt());
         return entity;
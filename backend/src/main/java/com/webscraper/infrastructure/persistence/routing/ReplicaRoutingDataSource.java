@@ -0,0 +1,150 @@
+package com.webscraper.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the
+ * primary.
+ *
+ * A background check measures each replica's replay lag. Replicas that are
+ * further behind than the allowed lag, or cannot be reached, are skipped
+ * until a later check finds them caught up; with no usable replica, reads
+ * go to the primary. Reads are spread round-robin over the usable replicas.
+ *
+ * The transaction's read-only flag is only known once the transaction has
+ * started, so this must be used behind a LazyConnectionDataSourceProxy,
+ * which defers picking a connection until the first statement. Closing it
+ * also closes the replica pools.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+
+    // Seconds the replica is behind; 0 when it has replayed everything it received. Having
+    // replayed everything only means it is current while WAL is streaming: a replica whose
+    // receiver is down also has nothing left to replay. Its status is only visible to roles
+    // with pg_read_all_stats; without it every replica counts as lagging and reads stay on the primary.
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming')
+                THEN 'Infinity'::float8
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+
+    private final List<DataSource> replicas;
+    private final double maxLagSeconds;
+    private final int checkTimeoutSeconds;
+    // Indexes of the replicas that passed the last check, replaced as a whole
+    private volatile List<Integer> usable = List.of();
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param maxLag        replicas further behind than this are not used
+     * @param checkInterval time between lag checks
+     * @param checkTimeout  how long the lag query may run before the replica counts as unreachable;
+     *                      JDBC query timeouts are whole seconds, so this is rounded up
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                    Duration checkInterval, Duration checkTimeout) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkTimeoutSeconds = (int) Math.max(1, (checkTimeout.toMillis() + 999) / 1000);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        if (!replicas.isEmpty()) {
+            scheduler.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<Integer> candidates = usable;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        scheduler.shutdown();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void checkReplicas() {
+        List<Integer> previous = usable;
+        List<Integer> current = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            if (isCaughtUp(replicas.get(i), i)) {
+                current.add(i);
+            }
+            if (current.contains(i) != previous.contains(i)) {
+                log.info("Read replica {} {}", i, current.contains(i) ? "in use" : "skipped");
+            }
+        }
+        usable = List.copyOf(current);
+    }
+
+    private boolean isCaughtUp(DataSource replica, int index) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            // One check thread serves every replica, so a hung replica must not hold it
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet result = statement.executeQuery(LAG_SQL)) {
+                result.next();
+                double lag = result.getDouble(1);
+                if (lag > maxLagSeconds) {
+                    log.debug("Read replica {} is {} s behind", index, lag);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.debug("Read replica {} unreachable", index, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.webscraper.infrastructure.persistence.routing;
+
+import com.webscraper.application.usecase.ReadOnlyUseCase;
+import com.webscraper.application.usecase.TransactionalUseCase;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * Runs the methods of use cases marked {@link ReadOnlyUseCase} in read-only
+ * transactions, so the routing data source can serve them from a replica,
+ * and those marked {@link TransactionalUseCase} in read-write transactions
+ * on the primary.
+ * Use cases stay free of Spring; the transaction is added by proxying the bean.
+ */
+public class UseCaseTransactionPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public UseCaseTransactionPostProcessor(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        boolean readOnly = bean.getClass().isAnnotationPresent(ReadOnlyUseCase.class);
+        if (!readOnly && !bean.getClass().isAnnotationPresent(TransactionalUseCase.class)) {
+            return bean;
+        }
+        RuleBasedTransactionAttribute transaction = new RuleBasedTransactionAttribute();
+        transaction.setReadOnly(readOnly);
+        MatchAlwaysTransactionAttributeSource attributes = new MatchAlwaysTransactionAttributeSource();
+        attributes.setTransactionAttribute(transaction);
+
+        ProxyFactory proxy = new ProxyFactory(bean);
+        proxy.setProxyTargetClass(true);
+        proxy.addAdvice(new TransactionInterceptor(transactionManager.getObject(), attributes));
+        return proxy.getProxy(bean.getClass().getClassLoader());
+    }
+}
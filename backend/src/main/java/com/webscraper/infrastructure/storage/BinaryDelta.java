@@ -0,0 +1,143 @@
+package com.webscraper.infrastructure.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Copy/insert delta between two byte arrays, in the style of git's pack deltas.
+ *
+ * The base is indexed by 16-byte blocks at block-aligned offsets. The target
+ * is scanned byte by byte; wherever the 16 bytes at the current position
+ * match an indexed block, the match is extended in both directions and
+ * emitted as a copy from the base. Everything else is emitted as inserted
+ * bytes. Two versions of a page that differ by a few lines therefore encode
+ * as a handful of copies and the changed lines.
+ *
+ * Encoding: varint target length, then operations. A copy is tag 0, varint
+ * base offset, varint length; an insert is tag 1, varint length, the bytes.
+ */
+final class BinaryDelta {
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int BLOCK = 16;
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    private BinaryDelta() {
+    }
+
+    static byte[] encode(byte[] base, byte[] target) {
+        int[] index = index(base);
+        int mask = index.length - 1;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(target.length / 8 + 16);
+        writeVarint(out, target.length);
+
+        int pending = 0; // start of bytes not yet emitted
+        int i = 0;
+        while (i + BLOCK <= target.length) {
+            int candidate = index[hash(target, i) & mask] - 1;
+            if (candidate < 0 || !Arrays.equals(base, candidate, candidate + BLOCK, target, i, i + BLOCK)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            int from = candidate;
+            while (start > pending && from > 0 && base[from - 1] == target[start - 1]) {
+                start--;
+                from--;
+            }
+            int end = i + BLOCK;
+            int to = candidate + BLOCK;
+            int mismatch = Arrays.mismatch(base, to, base.length, target, end, target.length);
+            if (mismatch < 0) {
+                mismatch = Math.min(base.length - to, target.length - end);
+            }
+            end += mismatch;
+
+            insert(out, target, pending, start);
+            out.write(COPY);
+            writeVarint(out, from);
+            writeVarint(out, end - start);
+            pending = end;
+            i = end;
+        }
+        insert(out, target, pending, target.length);
+        return out.toByteArray();
+    }
+
+    static byte[] apply(byte[] base, byte[] delta) {
+        int[] position = {0};
+        byte[] target = new byte[readVarint(delta, position)];
+        int written = 0;
+        while (position[0] < delta.length) {
+            byte op = delta[position[0]++];
+            if (op == COPY) {
+                int from = readVarint(delta, position);
+                int length = readVarint(delta, position);
+                System.arraycopy(base, from, target, written, length);
+                written += length;
+            } else if (op == INSERT) {
+                int length = readVarint(delta, position);
+                System.arraycopy(delta, position[0], target, written, length);
+                position[0] += length;
+                written += length;
+            } else {
+                throw new IllegalStateException("Unknown delta operation " + op);
+            }
+        }
+        if (written != target.length) {
+            throw new IllegalStateException("Delta produced " + written + " bytes, expected " + target.length);
+        }
+        return target;
+    }
+
+    // Open-addressed by hash, storing offset + 1; a later block with the same hash replaces an earlier one
+    private static int[] index(byte[] base) {
+        int blocks = base.length / BLOCK;
+        int[] index = new int[Integer.highestOneBit(Math.max(blocks, 1) * 2 - 1) * 2];
+        int mask = index.length - 1;
+        for (int offset = 0; offset + BLOCK <= base.length; offset += BLOCK) {
+            index[hash(base, offset) & mask] = offset + 1;
+        }
+        return index;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+        long a = (long) LONGS.get(bytes, offset);
+        long b = (long) LONGS.get(bytes, offset + 8);
+        long h = (a * 0x9E3779B97F4A7C15L) ^ Long.rotateLeft(b * 0xC2B2AE3D27D4EB4FL, 31);
+        return (int) (h ^ h >>> 32);
+    }
+
+    private static void insert(ByteArrayOutputStream out, byte[] target, int from, int to) {
+        if (to > from) {
+            out.write(INSERT);
+            writeVarint(out, to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] position) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.webscraper.infrastructure.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a preset deflate dictionary from sample pages of one target.
+ *
+ * Pages are cut into tag-sized segments; segments that recur across many
+ * samples (shared templates, navigation, footers) are kept in page order,
+ * so a run of template markup stays contiguous and compresses as one long
+ * match. Segments seen in one page only carry no shared structure and are
+ * dropped.
+ */
+final class DictionaryTrainer {
+
+    // Deflate can only refer back 32 KB, so a larger dictionary would be wasted
+    static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+
+    private static final int MIN_SEGMENT = 4;
+    private static final int MAX_SEGMENT = 1024;
+
+    private DictionaryTrainer() {
+    }
+
+    /**
+     * @return the dictionary, or an empty array if the samples share nothing
+     */
+    static byte[] train(List<byte[]> samples, int maxBytes) {
+        int limit = Math.min(maxBytes, MAX_DICTIONARY_BYTES);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (byte[] sample : samples) {
+            for (String segment : new HashSet<>(segments(sample))) {
+                documentFrequency.merge(segment, 1, Integer::sum);
+            }
+        }
+
+        // Start strict and relax until the dictionary is reasonably full
+        int threshold = Math.max(2, samples.size() * 3 / 4);
+        Set<String> picked = pick(samples, documentFrequency, threshold, limit);
+        while (threshold > 2 && size(picked) < limit / 2) {
+            threshold = Math.max(2, threshold * 2 / 3);
+            picked = pick(samples, documentFrequency, threshold, limit);
+        }
+
+        StringBuilder dictionary = new StringBuilder(limit);
+        picked.forEach(dictionary::append);
+        return dictionary.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static Set<String> pick(List<byte[]> samples, Map<String, Integer> documentFrequency,
+                                    int threshold, int limit) {
+        Set<String> picked = new LinkedHashSet<>();
+        int size = 0;
+        for (byte[] sample : samples) {
+            for (String segment : segments(sample)) {
+                if (documentFrequency.get(segment) < threshold || picked.contains(segment)) {
+                    continue;
+                }
+                if (size + segment.length() > limit) {
+                    return picked;
+                }
+                picked.add(segment);
+                size += segment.length();
+            }
+        }
+        return picked;
+    }
+
+    // Bytes are mapped 1:1 to chars (ISO-8859-1) so segments can be hashed as strings
+    private static List<String> segments(byte[] sample) {
+        String text = new String(sample, StandardCharsets.ISO_8859_1);
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '>' || i - start + 1 >= MAX_SEGMENT) {
+                if (i - start + 1 >= MIN_SEGMENT) {
+                    segments.add(text.substring(start, i + 1));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static int size(Set<String> segments) {
+        int size = 0;
+        for (String segment : segments) {
+            size += segment.length();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,263 @@
+package com.webscraper.infrastructure.storage;
+
+import com.webscraper.application.port.out.BlobStore;
+import com.webscraper.domain.valueobject.ContentHash;
+import com.webscraper.domain.valueobject.HashAlgorithm;
+import com.webscraper.infrastructure.storage.TargetDictionaries.Dictionary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Blob store on the local filesystem, one file per blob.
+ * Files are sharded by the first two hash bytes, e.g.
+ * murmur3_128/3f/a2/3fa2...e1, to keep directories small.
+ *
+ * Blobs are immutable: a write goes to a temp file that is synced and then
+ * atomically renamed, so readers never see a partial blob and concurrent
+ * writers of the same content simply race to the same result.
+ *
+ * Content is deflated with the target's preset dictionary once one has been
+ * trained (see {@link TargetDictionaries}), and inflated only when read.
+ * File layout: a 0x00 marker byte and a codec byte, then for dictionary
+ * blobs the target id (16 bytes) and dictionary id (4 bytes), then the
+ * zlib stream. Blobs without the marker are plain UTF-8 (HTML never starts
+ * with NUL).
+ *
+ * When the caller names the previous version's content as a base, the blob
+ * is stored as a deflated {@link BinaryDelta} against it instead: codec byte,
+ * chain depth, base hash algorithm and base hash, then the zlib stream.
+ * Every keyframe-interval-th blob of a chain is stored whole, so reading
+ * any version applies at most interval - 1 deltas. A base blob never
+ * depends on a later one, so chains cannot form cycles.
+ */
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final byte MARKER = 0x00;
+    private static final byte DEFLATE = 1;
+    private static final byte DEFLATE_WITH_DICTIONARY = 2;
+    private static final byte DELTA = 3;
+    private static final int DICTIONARY_HEADER_BYTES = 2 + 16 + 4;
+
+    private final Path root;
+    private final TargetDictionaries dictionaries;
+    private final int compressionLevel;
+    private final int keyframeInterval;
+
+    /**
+     * Decoded blob and the number of deltas applied to get it.
+     */
+    private record Blob(byte[] content, int depth) {}
+
+    public FileSystemBlobStore(Path root) {
+        this(root, 6, 50, 256 * 1024, 16);
+    }
+
+    /**
+     * @param compressionLevel deflate level, 1 (fastest) to 9 (smallest)
+     * @param trainAfter       pages of a target to sample before training its dictionary
+     * @param maxSampleBytes   bytes kept per sample page
+     * @param keyframeInterval store every n-th version of a chain whole, 1 to 255; 1 disables deltas
+     */
+    public FileSystemBlobStore(Path root, int compressionLevel, int trainAfter, int maxSampleBytes,
+                               int keyframeInterval) {
+        if (keyframeInterval < 1 || keyframeInterval > 255) {
+            throw new IllegalArgumentException("keyframeInterval must be between 1 and 255");
+        }
+        this.root = root;
+        this.dictionaries = new TargetDictionaries(root.resolve("dictionaries"), trainAfter, maxSampleBytes);
+        this.compressionLevel = compressionLevel;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    @Override
+    public boolean put(ContentHash hash, String content, UUID targetId, ContentHash base) {
+        Path path = pathOf(hash);
+        if (Files.exists(path)) {
+            return false;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        Dictionary dictionary = targetId != null ? dictionaries.forWriting(targetId, raw) : null;
+        byte[] encoded = encode(raw, dictionary);
+        if (base != null && keyframeInterval > 1 && !base.equals(hash)) {
+            Blob baseBlob = load(base);
+            if (baseBlob != null && baseBlob.depth() + 1 < keyframeInterval) {
+                byte[] delta = encodeDelta(raw, base, baseBlob);
+                if (delta.length < encoded.length) {
+                    encoded = delta;
+                }
+            }
+        }
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    ByteBuffer bytes = ByteBuffer.wrap(encoded);
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                    channel.force(true);
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                return false;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob " + hash, e);
+        }
+    }
+
+    @Override
+    public Optional<String> get(ContentHash hash) {
+        Blob blob = load(hash);
+        return blob != null ? Optional.of(new String(blob.content(), StandardCharsets.UTF_8)) : Optional.empty();
+    }
+
+    @Override
+    public boolean exists(ContentHash hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    private byte[] encode(byte[] raw, Dictionary dictionary) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + DICTIONARY_HEADER_BYTES);
+        out.write(MARKER);
+        if (dictionary != null) {
+            out.write(DEFLATE_WITH_DICTIONARY);
+            out.writeBytes(ByteBuffer.allocate(20)
+                    .putLong(dictionary.targetId().getMostSignificantBits())
+                    .putLong(dictionary.targetId().getLeastSignificantBits())
+                    .putInt(dictionary.id())
+                    .array());
+        } else {
+            out.write(DEFLATE);
+        }
+        deflate(raw, dictionary != null ? dictionary.bytes() : null, out);
+        // Tiny pages can grow under compression; store them as they are
+        return out.size() < raw.length || (raw.length > 0 && raw[0] == MARKER) ? out.toByteArray() : raw;
+    }
+
+    private byte[] encodeDelta(byte[] raw, ContentHash base, Blob baseBlob) {
+        byte[] baseHash = base.toBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 16 + baseHash.length + 4);
+        out.write(MARKER);
+        out.write(DELTA);
+        out.write(baseBlob.depth() + 1);
+        out.write(base.algorithm().id());
+        out.writeBytes(baseHash);
+        deflate(BinaryDelta.encode(baseBlob.content(), raw), null, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * @return null if no blob is stored under this hash
+     */
+    private Blob load(ContentHash hash) {
+        byte[] stored;
+        try {
+            stored = Files.readAllBytes(pathOf(hash));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + hash, e);
+        }
+        if (stored.length == 0 || stored[0] != MARKER) {
+            return new Blob(stored, 0);
+        }
+        ByteBuffer header = ByteBuffer.wrap(stored);
+        header.get();
+        byte codec = header.get();
+        switch (codec) {
+            case DEFLATE -> {
+                return new Blob(inflate(stored, header.position(), null), 0);
+            }
+            case DEFLATE_WITH_DICTIONARY -> {
+                UUID targetId = new UUID(header.getLong(), header.getLong());
+                Dictionary dictionary = dictionaries.find(targetId, header.getInt());
+                return new Blob(inflate(stored, header.position(), dictionary.bytes()), 0);
+            }
+            case DELTA -> {
+                int depth = header.get() & 0xFF;
+                HashAlgorithm algorithm = HashAlgorithm.fromId(header.get());
+                byte[] baseHash = new byte[algorithm.byteLength()];
+                header.get(baseHash);
+                ContentHash base = ContentHash.fromBytes(algorithm, baseHash);
+                Blob baseBlob = load(base);
+                if (baseBlob == null) {
+                    throw new IllegalStateException("Base blob " + base + " of " + hash + " is missing");
+                }
+                byte[] delta = inflate(stored, header.position(), null);
+                return new Blob(BinaryDelta.apply(baseBlob.content(), delta), depth);
+            }
+            default -> throw new IllegalStateException("Unknown blob codec " + codec);
+        }
+    }
+
+    private void deflate(byte[] raw, byte[] dictionary, ByteArrayOutputStream out) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] stored, int offset, byte[] dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, offset, stored.length - offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n > 0) {
+                    out.write(buffer, 0, n);
+                } else if (inflater.needsDictionary() && dictionary != null) {
+                    inflater.setDictionary(dictionary);
+                } else if (inflater.needsInput() || inflater.needsDictionary()) {
+                    throw new IllegalStateException("Truncated or corrupt blob");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt blob", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Path pathOf(ContentHash hash) {
+        String hex = hash.toString();
+        return root.resolve(hash.algorithm().name().toLowerCase(Locale.ROOT))
+                .resolve(hex.substring(0, 2))
+                .resolve(hex.substring(2, 4))
+                .resolve(hex);
+    }
+}
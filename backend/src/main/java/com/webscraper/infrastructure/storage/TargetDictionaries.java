@@ -0,0 +1,131 @@
+package com.webscraper.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Adler32;
+
+/**
+ * Compression dictionaries, one current dictionary per target.
+ *
+ * Until a target has a dictionary, the first pages stored for it are kept as
+ * training samples; once enough are collected a dictionary is trained and
+ * written to dictionaries/{targetId}/{id}.dict. Dictionaries are never
+ * changed or deleted, because stored blobs refer to them by id (the Adler-32
+ * checksum deflate itself uses to identify a preset dictionary).
+ */
+class TargetDictionaries {
+
+    record Dictionary(UUID targetId, int id, byte[] bytes) {}
+
+    private static final String CURRENT = "current";
+
+    private final Path directory;
+    private final int trainAfter;
+    private final int maxSampleBytes;
+    private final Map<UUID, TargetState> targets = new ConcurrentHashMap<>();
+    private final Map<String, Dictionary> loaded = new ConcurrentHashMap<>();
+
+    private static final class TargetState {
+        Dictionary current;
+        boolean initialized;
+        final List<byte[]> samples = new ArrayList<>();
+    }
+
+    TargetDictionaries(Path directory, int trainAfter, int maxSampleBytes) {
+        this.directory = directory;
+        this.trainAfter = trainAfter;
+        this.maxSampleBytes = maxSampleBytes;
+    }
+
+    /**
+     * The dictionary to compress new content of this target with, or null if
+     * there is none yet. Content stored without one is kept as a training sample.
+     */
+    Dictionary forWriting(UUID targetId, byte[] content) {
+        TargetState state = targets.computeIfAbsent(targetId, id -> new TargetState());
+        synchronized (state) {
+            if (!state.initialized) {
+                state.current = readCurrent(targetId);
+                state.initialized = true;
+            }
+            if (state.current != null) {
+                return state.current;
+            }
+            state.samples.add(content.length > maxSampleBytes ? Arrays.copyOf(content, maxSampleBytes) : content);
+            if (state.samples.size() >= trainAfter) {
+                state.current = train(targetId, state.samples);
+                state.samples.clear();
+            }
+            return null;
+        }
+    }
+
+    Dictionary find(UUID targetId, int id) {
+        return loaded.computeIfAbsent(key(targetId, id), key -> {
+            try {
+                return new Dictionary(targetId, id, Files.readAllBytes(pathOf(targetId, id)));
+            } catch (NoSuchFileException e) {
+                throw new IllegalStateException("Compression dictionary " + key + " is missing", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Dictionary train(UUID targetId, List<byte[]> samples) {
+        byte[] bytes = DictionaryTrainer.train(samples, DictionaryTrainer.MAX_DICTIONARY_BYTES);
+        if (bytes.length == 0) {
+            return null;
+        }
+        Adler32 adler = new Adler32();
+        adler.update(bytes);
+        Dictionary dictionary = new Dictionary(targetId, (int) adler.getValue(), bytes);
+        try {
+            Path targetDirectory = directory.resolve(targetId.toString());
+            Files.createDirectories(targetDirectory);
+            writeAtomically(pathOf(targetId, dictionary.id()), bytes);
+            writeAtomically(targetDirectory.resolve(CURRENT),
+                    Integer.toHexString(dictionary.id()).getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store dictionary for target " + targetId, e);
+        }
+        loaded.put(key(targetId, dictionary.id()), dictionary);
+        return dictionary;
+    }
+
+    private Dictionary readCurrent(UUID targetId) {
+        try {
+            String id = Files.readString(directory.resolve(targetId.toString()).resolve(CURRENT)).trim();
+            return find(targetId, Integer.parseUnsignedInt(id, 16));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAtomically(Path path, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path pathOf(UUID targetId, int id) {
+        return directory.resolve(targetId.toString()).resolve(Integer.toHexString(id) + ".dict");
+    }
+
+    private static String key(UUID targetId, int id) {
+        return targetId + "/" + Integer.toHexString(id);
+    }
+}
@@ -14,9 +14,9 @@ public interface PageRepository extends JpaRepository<Page, UUID> {
     
     org.springframework.data.domain.Page<Page> findByTargetId(UUID targetId, Pageable pageable);
     
-    Optional<Page> findByUrlHash(String urlHash);
+    Optional<Page> findByTargetIdAndUrlHash(UUID targetId, byte[] urlHash);
     
-    boolean existsByUrlHash(String urlHash);
+    boolean existsByTargetIdAndUrlHash(UUID targetId, byte[] urlHash);
     
     @Query("SELECT COUNT(p) FROM Page p WHERE p.target.id = :targetId")
     long countByTargetId(UUID targetId);
@@ -1,23 +1,40 @@
 package com.webscraper.repository;
 
 import com.webscraper.entity.PageVersion;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * The entity leaves raw_html unmapped; the HTML is only read through
+ * {@link #findRawHtmlById}.
+ */
 @Repository
 public interface PageVersionRepository extends JpaRepository<PageVersion, UUID> {
     
-    Page<PageVersion> findByPageIdOrderByScrapedAtDesc(UUID pageId, Pageable pageable);
+    interface VersionCount {
+        UUID getPageId();
+        Long getVersionCount();
+    }
     
-    @Query("SELECT pv FROM PageVersion pv WHERE pv.page.id = :pageId ORDER BY pv.scrapedAt DESC LIMIT 1")
-    Optional<PageVersion> findLatestByPageId(UUID pageId);
+    /**
+     * Version counts of several pages at once, read from the trigger-maintained
+     * counters table. Pages without versions are missing from the result.
+     */
+    @Query(value = """
+        SELECT owner_id AS pageId, value AS versionCount FROM counters
+        WHERE kind = 'page_versions' AND owner_id IN (:pageIds)
+        """, nativeQuery = true)
+    List<VersionCount> countByPageIds(Collection<UUID> pageIds);
     
-    @Query("SELECT pv.contentHash FROM PageVersion pv WHERE pv.page.id = :pageId ORDER BY pv.scrapedAt DESC LIMIT 1")
-    Optional<String> findLatestContentHashByPageId(UUID pageId);
+    /**
+     * Inline HTML of versions stored before the blob store; null for newer ones.
+     */
+    @Query(value = "SELECT raw_html FROM page_versions WHERE id = :id", nativeQuery = true)
+    Optional<String> findRawHtmlById(UUID id);
 }
@@ -5,11 +5,15 @@ import com.webscraper.entity.Page;
 import com.webscraper.exception.ResourceNotFoundException;
 import com.webscraper.repository.PageRepository;
 import com.webscraper.repository.PageVersionRepository;
+import com.webscraper.repository.PageVersionRepository.VersionCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +28,9 @@ public class DataService {
         // Verify user owns the target
         targetService.findTargetByIdAndUser(targetId, userId);
         
-        return pageRepository.findByTargetId(targetId, pageable)
-                .map(page -> PageResponse.from(page, countVersions(page.getId())));
+        var pages = pageRepository.findByTargetId(targetId, pageable);
+        Map<UUID, Long> versionCounts = countVersions(pages.getContent());
+        return pages.map(page -> PageResponse.from(page, versionCounts.getOrDefault(page.getId(), 0L).intValue()));
     }
     
     public Page getPageById(UUID pageId) {
@@ -33,8 +38,13 @@ public class DataService {
                 .orElseThrow(() -> new ResourceNotFoundException("Page not found"));
     }
     
-    private int countVersions(UUID pageId) {
-        return (int) pageVersionRepository.findByPageIdOrderByScrapedAtDesc(pageId, Pageable.unpaged())
-                .getTotalElements();
+    // One query for the whole result page rather than one per page
+    private Map<UUID, Long> countVersions(List<Page> pages) {
+        if (pages.isEmpty()) {
+            return Map.of();
+        }
+        return pageVersionRepository.countByPageIds(pages.stream().map(Page::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(VersionCount::getPageId, VersionCount::getVersionCount));
     }
 }
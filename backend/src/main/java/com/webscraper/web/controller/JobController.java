@@ -4,12 +4,17 @@ import com.webscraper.application.usecase.job.CancelJobUseCase;
 import com.webscraper.application.usecase.job.CreateJobUseCase;
 import com.webscraper.application.usecase.job.GetJobUseCase;
 import com.webscraper.application.usecase.job.ListJobsUseCase;
+import com.webscraper.domain.valueobject.Cursor;
 import com.webscraper.domain.valueobject.JobStatus;
 import com.webscraper.web.request.CreateJobRequest;
 import com.webscraper.web.response.ApiResponse;
 import com.webscraper.web.response.JobResponse;
+import com.webscraper.web.response.PagedResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +24,7 @@ import java.util.UUID;
  * Job management controller.
  */
 @RestController
+@Validated
 @RequestMapping("/api/jobs")
 public class JobController {
     
@@ -55,21 +61,22 @@ public class JobController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<JobResponse>>> listJobs(
+    public ResponseEntity<ApiResponse<PagedResponse<JobResponse>>> listJobs(
             @RequestHeader("X-User-Id") UUID userId,
             @RequestParam(required = false) String status,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
         
         JobStatus jobStatus = status != null ? JobStatus.valueOf(status.toUpperCase()) : null;
-        var command = new ListJobsUseCase.Command(userId, jobStatus, page, size);
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        var command = new ListJobsUseCase.Command(userId, jobStatus, after, size);
         var result = listJobsUseCase.execute(command);
         
         List<JobResponse> jobs = result.jobs().stream()
                 .map(JobResponse::from)
                 .toList();
         
-        return ResponseEntity.ok(ApiResponse.ok(jobs));
+        return ResponseEntity.ok(ApiResponse.ok(PagedResponse.of(jobs, size, result.next())));
     }
 
     @GetMapping("/{id}")
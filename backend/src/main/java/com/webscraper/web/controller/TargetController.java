@@ -3,12 +3,17 @@ package com.webscraper.web.controller;
 import com.webscraper.application.usecase.targets.CreateTargetUseCase;
 import com.webscraper.application.usecase.targets.GetTargetUseCase;
 import com.webscraper.application.usecase.targets.ListTargetsUseCase;
+import com.webscraper.domain.valueobject.Cursor;
+import com.webscraper.domain.valueobject.RetentionPolicy;
 import com.webscraper.web.request.CreateTargetRequest;
 import com.webscraper.web.response.ApiResponse;
 import com.webscraper.web.response.PagedResponse;
 import com.webscraper.web.response.TargetResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +24,7 @@ import java.util.UUID;
  * Thin controller: validates, calls use-case, returns response.
  */
 @RestController
+@Validated
 @RequestMapping("/api/targets")
 public class TargetController {
     
@@ -45,7 +51,8 @@ public class TargetController {
                 request.name(),
                 request.baseUrl(),
                 request.description(),
-                request.scrapeConfig()
+                request.scrapeConfig(),
+                new RetentionPolicy(request.versionRetentionCount(), request.versionRetentionDays())
         );
         
         var result = createTargetUseCase.execute(command);
@@ -55,10 +62,11 @@ public class TargetController {
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<TargetResponse>>> listTargets(
             @RequestHeader("X-User-Id") UUID userId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
         
-        var command = new ListTargetsUseCase.Command(userId, page, size);
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        var command = new ListTargetsUseCase.Command(userId, after, size);
         var result = listTargetsUseCase.execute(command);
         
         List<TargetResponse> targets = result.targets().stream()
@@ -66,7 +74,7 @@ public class TargetController {
                 .toList();
         
         return ResponseEntity.ok(ApiResponse.ok(
-                PagedResponse.of(targets, page, size, result.total())));
+                PagedResponse.of(targets, size, result.next(), result.total())));
     }
 
     @GetMapping("/{id}")
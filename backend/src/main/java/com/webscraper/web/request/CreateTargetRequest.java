@@ -1,6 +1,7 @@
 package com.webscraper.web.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 import java.util.Map;
 
@@ -13,5 +14,12 @@ public record CreateTargetRequest(
     
     String description,
     
-    Map<String, Object> scrapeConfig
+    Map<String, Object> scrapeConfig,
+    
+    // Version retention; omit both to keep every version
+    @Positive(message = "Version retention count must be positive")
+    Integer versionRetentionCount,
+    
+    @Positive(message = "Version retention days must be positive")
+    Integer versionRetentionDays
 ) {}
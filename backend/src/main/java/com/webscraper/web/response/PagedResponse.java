@@ -1,16 +1,25 @@
 package com.webscraper.web.response;
 
+import com.webscraper.domain.valueobject.Cursor;
+
 import java.util.List;
 
+/**
+ * One page of a list. Pass nextCursor back as the cursor parameter to get
+ * the following page; it is null on the last page. totalElements is only
+ * set for lists whose size is kept in a counter.
+ */
 public record PagedResponse<T>(
     List<T> content,
-    int page,
     int size,
-    long totalElements,
-    int totalPages
+    String nextCursor,
+    Long totalElements
 ) {
-    public static <T> PagedResponse<T> of(List<T> content, int page, int size, long total) {
-        int totalPages = (int) Math.ceil((double) total / size);
-        return new PagedResponse<>(content, page, size, total, totalPages);
+    public static <T> PagedResponse<T> of(List<T> content, int size, Cursor next) {
+        return of(content, size, next, null);
+    }
+
+    public static <T> PagedResponse<T> of(List<T> content, int size, Cursor next, Long total) {
+        return new PagedResponse<>(content, size, next != null ? next.encode() : null, total);
     }
 }
@@ -13,6 +13,8 @@ public record TargetResponse(
     String description,
     Map<String, Object> scrapeConfig,
     boolean active,
+    Integer versionRetentionCount,
+    Integer versionRetentionDays,
     Instant createdAt
 ) {
     public static TargetResponse from(Target target) {
@@ -23,6 +25,8 @@ public record TargetResponse(
             target.getDescription(),
             target.getScrapeConfig(),
             target.isActive(),
+            target.getRetention().keepVersions(),
+            target.getRetention().keepDays(),
             target.getCreatedAt()
         );
     }
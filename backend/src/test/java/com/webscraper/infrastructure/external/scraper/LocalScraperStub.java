@@ -0,0 +1,117 @@
+package com.webscraper.infrastructure.external.scraper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process stand-in for the Python scraper service.
+ * Speaks the same /api/scrape and /api/scrape/batch protocol and returns
+ * synthetic HTML after a configurable latency, so the Java client can be
+ * exercised and benchmarked without browsers.
+ */
+public class LocalScraperStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration latency;
+
+    public LocalScraperStub(int port, Duration latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.createContext("/api/scrape/batch", this::handleBatch);
+        this.server.createContext("/api/scrape", this::handleSingle);
+        this.server.setExecutor(workers);
+    }
+
+    public LocalScraperStub start() {
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private void handleSingle(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        byte[] body = objectMapper.writeValueAsBytes(fakeResult(-1, request.path("url").asText()));
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        JsonNode requests = objectMapper.readTree(exchange.getRequestBody()).path("requests");
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+
+        CountDownLatch done = new CountDownLatch(requests.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                String url = requests.get(i).path("url").asText();
+                workers.execute(() -> {
+                    try {
+                        byte[] line = (objectMapper.writeValueAsString(fakeResult(index, url)) + "\n")
+                                .getBytes(StandardCharsets.UTF_8);
+                        synchronized (out) {
+                            out.write(line);
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        // Client went away; nothing left to report to
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> fakeResult(int index, String url) {
+        long jitter = latency.toMillis() > 0 ? ThreadLocalRandom.current().nextLong(latency.toMillis() / 2 + 1) : 0;
+        long elapsed = latency.toMillis() + jitter;
+        try {
+            Thread.sleep(elapsed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (index >= 0) {
+            result.put("index", index);
+        }
+        result.put("rawHtml", "<html><head><title>" + url + "</title></head><body><p>Stub content for "
+                + url + "</p></body></html>");
+        result.put("httpStatus", 200);
+        result.put("responseTimeMs", elapsed);
+        result.put("error", null);
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+-- ============================================================================
+-- V12__page_version_simhash.sql
+-- SimHash fingerprints for near-duplicate detection of page versions
+-- ============================================================================
+
+-- 64-bit SimHash of the normalized page text (NULL for versions scraped before V12)
+ALTER TABLE page_versions ADD COLUMN sim_hash BIGINT;
+
+-- Version this one is textually equivalent to (chunks/embeddings can be reused)
+ALTER TABLE page_versions ADD COLUMN near_duplicate_of UUID;
+
+ALTER TABLE page_versions ADD CONSTRAINT fk_versions_near_duplicate
+    FOREIGN KEY (near_duplicate_of) REFERENCES page_versions(id) ON DELETE SET NULL;
+
+-- One index per 16-bit band: fingerprints within Hamming distance 3
+-- always share at least one band (pigeonhole), so lookups stay indexed
+CREATE INDEX idx_versions_sim_band_0 ON page_versions (((sim_hash >> 48) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_1 ON page_versions (((sim_hash >> 32) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_2 ON page_versions (((sim_hash >> 16) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_3 ON page_versions ((sim_hash & 65535)) WHERE sim_hash IS NOT NULL;
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pg_indexes 
+--            WHERE tablename = 'page_versions' AND indexname LIKE 'idx_versions_sim_band_%';
+-- Expected: 4
+-- ============================================================================
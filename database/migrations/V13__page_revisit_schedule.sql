@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V13__page_revisit_schedule.sql
+-- Per-page change rate and next planned scrape for adaptive revisits
+-- ============================================================================
+
+-- Estimated changes per day (NULL until the page has been revisited)
+ALTER TABLE pages ADD COLUMN change_rate DOUBLE PRECISION;
+
+-- When the page is next due (NULL = never scheduled, due immediately)
+ALTER TABLE pages ADD COLUMN next_scrape_at TIMESTAMPTZ;
+
+-- Due pages of a target, earliest first
+CREATE INDEX idx_pages_target_next_scrape ON pages(target_id, next_scrape_at NULLS FIRST);
+
+-- ============================================================================
+-- Done when: SELECT column_name FROM information_schema.columns 
+--            WHERE table_name = 'pages' AND column_name IN ('change_rate', 'next_scrape_at');
+-- Expected: 2 rows
+-- ============================================================================
@@ -0,0 +1,44 @@
+-- ============================================================================
+-- V14__binary_hashes.sql
+-- Store url_hash and content_hash as raw 32-byte SHA-256 digests
+-- ============================================================================
+
+-- The view selects content_hash and would block the type change
+DROP VIEW vw_latest_page_versions;
+
+-- Hex values are decoded as-is; anything else (e.g. seed placeholders) is rehashed
+ALTER TABLE pages ALTER COLUMN url_hash TYPE BYTEA
+    USING CASE WHEN url_hash ~ '^[0-9a-fA-F]{64}$' THEN decode(url_hash, 'hex')
+               ELSE sha256(convert_to(url, 'UTF8')) END;
+
+ALTER TABLE page_versions ALTER COLUMN content_hash TYPE BYTEA
+    USING CASE WHEN content_hash ~ '^[0-9a-fA-F]{64}$' THEN decode(content_hash, 'hex')
+               ELSE sha256(convert_to(raw_html, 'UTF8')) END;
+
+ALTER TABLE pages ADD CONSTRAINT chk_pages_url_hash_length
+    CHECK (octet_length(url_hash) = 32);
+
+ALTER TABLE page_versions ADD CONSTRAINT chk_versions_content_hash_length
+    CHECK (octet_length(content_hash) = 32);
+
+-- uk_pages_url_hash already provides this index
+DROP INDEX idx_pages_url_hash;
+
+CREATE VIEW vw_latest_page_versions AS
+SELECT DISTINCT ON (pv.page_id)
+    pv.id AS version_id,
+    pv.page_id,
+    p.url,
+    p.target_id,
+    pv.content_hash,
+    pv.http_status,
+    pv.scraped_at
+FROM page_versions pv
+JOIN pages p ON pv.page_id = p.id
+ORDER BY pv.page_id, pv.scraped_at DESC;
+
+-- ============================================================================
+-- Done when: SELECT data_type FROM information_schema.columns 
+--            WHERE (table_name, column_name) IN (('pages', 'url_hash'), ('page_versions', 'content_hash'));
+-- Expected: 2 rows, both bytea
+-- ============================================================================
@@ -0,0 +1,23 @@
+-- ============================================================================
+-- V15__hash_algorithms.sql
+-- Record which algorithm produced each url_hash / content_hash
+-- ============================================================================
+
+-- 1 = SHA-256 (32 bytes), 2 = MurmurHash3 x64 128 (16 bytes)
+ALTER TABLE pages ADD COLUMN url_hash_algorithm SMALLINT NOT NULL DEFAULT 1;
+ALTER TABLE page_versions ADD COLUMN content_hash_algorithm SMALLINT NOT NULL DEFAULT 1;
+
+-- Length now depends on the algorithm
+ALTER TABLE pages DROP CONSTRAINT chk_pages_url_hash_length;
+ALTER TABLE pages ADD CONSTRAINT chk_pages_url_hash_length
+    CHECK (octet_length(url_hash) = CASE url_hash_algorithm WHEN 1 THEN 32 WHEN 2 THEN 16 END);
+
+ALTER TABLE page_versions DROP CONSTRAINT chk_versions_content_hash_length;
+ALTER TABLE page_versions ADD CONSTRAINT chk_versions_content_hash_length
+    CHECK (octet_length(content_hash) = CASE content_hash_algorithm WHEN 1 THEN 32 WHEN 2 THEN 16 END);
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM information_schema.columns 
+--            WHERE column_name IN ('url_hash_algorithm', 'content_hash_algorithm');
+-- Expected: 2
+-- ============================================================================
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V16__raw_html_blob_store.sql
+-- Page HTML moves to the content-addressed blob store
+-- ============================================================================
+
+-- New versions keep only content_hash (the blob key); older rows keep their inline HTML
+ALTER TABLE page_versions ALTER COLUMN raw_html DROP NOT NULL;
+
+COMMENT ON COLUMN page_versions.raw_html IS
+    'Legacy inline HTML; NULL means the body is in the blob store under content_hash';
+
+-- ============================================================================
+-- Done when: SELECT is_nullable FROM information_schema.columns 
+--            WHERE table_name = 'page_versions' AND column_name = 'raw_html';
+-- Expected: YES
+-- ============================================================================
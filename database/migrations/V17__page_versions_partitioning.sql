@@ -0,0 +1,125 @@
+-- ============================================================================
+-- V17__page_versions_partitioning.sql
+-- Monthly range partitions for page_versions, per-target version retention
+-- ============================================================================
+-- Rewrites page_versions: run during a maintenance window on large databases.
+
+-- Dependents of the old table
+DROP VIEW vw_latest_page_versions;
+ALTER TABLE chunks DROP CONSTRAINT fk_chunks_version;
+
+ALTER TABLE page_versions RENAME TO page_versions_unpartitioned;
+
+-- Unique constraints on a partitioned table must include the partition key,
+-- so id alone can no longer be referenced by foreign keys: chunks and
+-- near_duplicate_of become plain references, cleaned up by the compactor
+CREATE TABLE page_versions (
+    id                      UUID NOT NULL DEFAULT uuid_generate_v4(),
+    page_id                 UUID NOT NULL,
+    job_id                  UUID,
+    raw_html                TEXT,
+    content_hash            BYTEA NOT NULL,
+    content_hash_algorithm  SMALLINT NOT NULL DEFAULT 1,
+    sim_hash                BIGINT,
+    near_duplicate_of       UUID,
+    http_status             INTEGER NOT NULL DEFAULT 200,
+    response_time_ms        INTEGER,
+    scraped_at              TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_page_versions PRIMARY KEY (id, scraped_at),
+    CONSTRAINT fk_versions_page FOREIGN KEY (page_id)
+        REFERENCES pages(id) ON DELETE CASCADE,
+    CONSTRAINT fk_versions_job FOREIGN KEY (job_id)
+        REFERENCES scrape_jobs(id) ON DELETE SET NULL,
+    CONSTRAINT chk_versions_content_hash_length
+        CHECK (octet_length(content_hash) = CASE content_hash_algorithm WHEN 1 THEN 32 WHEN 2 THEN 16 END)
+) PARTITION BY RANGE (scraped_at);
+
+COMMENT ON COLUMN page_versions.raw_html IS
+    'Legacy inline HTML; new versions keep their HTML in the blob store under content_hash';
+
+-- Creates the monthly partitions from the month of from_date through months_ahead
+-- months after the current one; existing partitions are left alone.
+-- Partitions are named page_versions_YYYY_MM. Each is created empty and then
+-- attached, which only takes a SHARE UPDATE EXCLUSIVE lock on page_versions
+-- (CREATE TABLE ... PARTITION OF would block all reads and writes).
+CREATE OR REPLACE FUNCTION fn_ensure_page_versions_partitions(from_date TIMESTAMPTZ, months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_date)::DATE;
+    last_month  DATE := (date_trunc('month', CURRENT_TIMESTAMP) + make_interval(months => months_ahead))::DATE;
+    partition   TEXT;
+    created     INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition := 'page_versions_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE page_versions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                partition);
+            EXECUTE format(
+                'ALTER TABLE page_versions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition, month_start::TIMESTAMPTZ, (month_start + INTERVAL '1 month')::TIMESTAMPTZ);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- No DEFAULT partition: it would make creating and detaching partitions scan
+-- and lock it. The compactor keeps partitions created ahead of time instead.
+SELECT fn_ensure_page_versions_partitions(
+    COALESCE((SELECT MIN(scraped_at) FROM page_versions_unpartitioned), CURRENT_TIMESTAMP), 3);
+
+INSERT INTO page_versions (id, page_id, job_id, raw_html, content_hash, content_hash_algorithm,
+                           sim_hash, near_duplicate_of, http_status, response_time_ms, scraped_at)
+SELECT id, page_id, job_id, raw_html, content_hash, content_hash_algorithm,
+       sim_hash, near_duplicate_of, http_status, response_time_ms, scraped_at
+FROM page_versions_unpartitioned;
+
+DROP TABLE page_versions_unpartitioned;
+
+-- Indexes are created per partition, so each one stays month-sized
+CREATE INDEX idx_versions_id ON page_versions(id);
+CREATE INDEX idx_versions_page ON page_versions(page_id, scraped_at DESC);
+CREATE INDEX idx_versions_job ON page_versions(job_id);
+CREATE INDEX idx_versions_content_hash ON page_versions(content_hash);
+CREATE INDEX idx_versions_scraped ON page_versions(scraped_at DESC);
+CREATE INDEX idx_versions_near_duplicate ON page_versions(near_duplicate_of) WHERE near_duplicate_of IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_0 ON page_versions (((sim_hash >> 48) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_1 ON page_versions (((sim_hash >> 32) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_2 ON page_versions (((sim_hash >> 16) & 65535)) WHERE sim_hash IS NOT NULL;
+CREATE INDEX idx_versions_sim_band_3 ON page_versions ((sim_hash & 65535)) WHERE sim_hash IS NOT NULL;
+
+CREATE VIEW vw_latest_page_versions AS
+SELECT DISTINCT ON (pv.page_id)
+    pv.id AS version_id,
+    pv.page_id,
+    p.url,
+    p.target_id,
+    pv.content_hash,
+    pv.http_status,
+    pv.scraped_at
+FROM page_versions pv
+JOIN pages p ON pv.page_id = p.id
+ORDER BY pv.page_id, pv.scraped_at DESC;
+
+-- Detached partitions kept by the compactor's archive mode
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- Version retention per target (NULL = no limit). A version expires once it is
+-- older than the day limit and not among the page's newest N versions; the
+-- newest version of a page never expires.
+ALTER TABLE targets ADD COLUMN version_retention_count INTEGER;
+ALTER TABLE targets ADD COLUMN version_retention_days INTEGER;
+
+ALTER TABLE targets ADD CONSTRAINT chk_targets_version_retention
+    CHECK ((version_retention_count IS NULL OR version_retention_count > 0)
+       AND (version_retention_days IS NULL OR version_retention_days > 0));
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pg_partitioned_table pt
+--            JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = 'page_versions';
+-- Expected: 1
+-- ============================================================================
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- V18__keyset_pagination_indexes.sql
+-- Indexes matching the keyset (cursor) order of the paged list endpoints
+-- ============================================================================
+-- Lists are ordered newest first by (created_at, id) and each page starts
+-- after the last row of the previous one. With the owner column leading,
+-- every page is one index range scan of page-size rows, however deep it is.
+
+-- User's active targets
+CREATE INDEX idx_targets_user_created ON targets(user_id, created_at DESC, id DESC)
+    WHERE is_active = true;
+
+-- User's jobs, with and without a status filter
+CREATE INDEX idx_jobs_user_created ON scrape_jobs(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_jobs_user_status_created ON scrape_jobs(user_id, status, created_at DESC, id DESC);
+
+-- Target's pages
+CREATE INDEX idx_pages_target_created ON pages(target_id, created_at DESC, id DESC);
+
+-- Prefix of idx_pages_target_created. idx_targets_user stays: the new
+-- targets index only covers active targets.
+DROP INDEX idx_pages_target;
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pg_indexes
+--            WHERE indexname IN ('idx_targets_user_created', 'idx_jobs_user_created',
+--                                'idx_jobs_user_status_created', 'idx_pages_target_created');
+-- Expected: 4
+-- ============================================================================
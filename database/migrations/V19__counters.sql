@@ -0,0 +1,135 @@
+-- ============================================================================
+-- V19__counters.sql
+-- Trigger-maintained row counts: pages per target, versions per page,
+-- active targets per user
+-- ============================================================================
+
+CREATE TABLE counters (
+    kind        VARCHAR(20) NOT NULL,
+    owner_id    UUID NOT NULL,
+    value       BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_counters PRIMARY KEY (kind, owner_id),
+    CONSTRAINT ck_counters_kind CHECK (kind IN ('target_pages', 'page_versions', 'user_targets'))
+);
+
+-- The triggers are statement-level with transition tables, so a bulk insert
+-- of thousands of pages updates its target's counter once, not per row.
+-- Increments lock the owners' rows in id order, so two concurrent statements
+-- touching the same owners cannot deadlock on them.
+-- Deletes only decrement existing rows: when an owner is deleted its counter
+-- row goes with it, and the cascaded deletes of its children must not bring
+-- the row back, in whichever order the triggers fire.
+
+CREATE OR REPLACE FUNCTION fn_count_pages() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO counters (kind, owner_id, value)
+        SELECT 'target_pages', target_id, count(*) FROM new_rows GROUP BY target_id ORDER BY target_id
+        ON CONFLICT (kind, owner_id) DO UPDATE SET value = counters.value + EXCLUDED.value;
+    ELSE
+        UPDATE counters c SET value = c.value - d.n
+        FROM (SELECT target_id, count(*) AS n FROM old_rows GROUP BY target_id) d
+        WHERE c.kind = 'target_pages' AND c.owner_id = d.target_id;
+        DELETE FROM counters c USING old_rows p
+        WHERE c.kind = 'page_versions' AND c.owner_id = p.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement triggers on a partitioned table fire once for the parent,
+-- whichever partitions the rows went to
+CREATE OR REPLACE FUNCTION fn_count_page_versions() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO counters (kind, owner_id, value)
+        SELECT 'page_versions', page_id, count(*) FROM new_rows GROUP BY page_id ORDER BY page_id
+        ON CONFLICT (kind, owner_id) DO UPDATE SET value = counters.value + EXCLUDED.value;
+    ELSE
+        UPDATE counters c SET value = c.value - d.n
+        FROM (SELECT page_id, count(*) AS n FROM old_rows GROUP BY page_id) d
+        WHERE c.kind = 'page_versions' AND c.owner_id = d.page_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Counts active targets, so deactivating a target updates it too
+CREATE OR REPLACE FUNCTION fn_count_targets() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO counters (kind, owner_id, value)
+        SELECT 'user_targets', user_id, count(*) FROM new_rows WHERE is_active
+        GROUP BY user_id ORDER BY user_id
+        ON CONFLICT (kind, owner_id) DO UPDATE SET value = counters.value + EXCLUDED.value;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO counters (kind, owner_id, value)
+        SELECT 'user_targets', user_id, sum(delta) FROM (
+            SELECT user_id, 1 AS delta FROM new_rows WHERE is_active
+            UNION ALL
+            SELECT user_id, -1 FROM old_rows WHERE is_active
+        ) d
+        GROUP BY user_id HAVING sum(delta) <> 0 ORDER BY user_id
+        ON CONFLICT (kind, owner_id) DO UPDATE SET value = counters.value + EXCLUDED.value;
+    ELSE
+        UPDATE counters c SET value = c.value - d.n
+        FROM (SELECT user_id, count(*) AS n FROM old_rows WHERE is_active GROUP BY user_id) d
+        WHERE c.kind = 'user_targets' AND c.owner_id = d.user_id;
+        DELETE FROM counters c USING old_rows t
+        WHERE c.kind = 'target_pages' AND c.owner_id = t.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION fn_count_users() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM counters c USING old_rows u
+    WHERE c.kind = 'user_targets' AND c.owner_id = u.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_pages_count_insert AFTER INSERT ON pages
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_pages();
+CREATE TRIGGER trg_pages_count_delete AFTER DELETE ON pages
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_pages();
+
+CREATE TRIGGER trg_versions_count_insert AFTER INSERT ON page_versions
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_page_versions();
+CREATE TRIGGER trg_versions_count_delete AFTER DELETE ON page_versions
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_page_versions();
+
+CREATE TRIGGER trg_targets_count_insert AFTER INSERT ON targets
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_targets();
+CREATE TRIGGER trg_targets_count_update AFTER UPDATE ON targets
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_targets();
+CREATE TRIGGER trg_targets_count_delete AFTER DELETE ON targets
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_targets();
+
+CREATE TRIGGER trg_users_count_delete AFTER DELETE ON users
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_count_users();
+
+-- Recounts everything from scratch. Used for the initial fill and to repair
+-- drift, e.g. after restoring a table or moving a partition out by hand.
+-- Takes SHARE locks, so writes to the counted tables wait until it finishes.
+CREATE OR REPLACE FUNCTION fn_rebuild_counters() RETURNS VOID AS $$
+BEGIN
+    LOCK TABLE users, targets, pages, page_versions IN SHARE MODE;
+    DELETE FROM counters;
+    INSERT INTO counters (kind, owner_id, value)
+    SELECT 'target_pages', target_id, count(*) FROM pages GROUP BY target_id;
+    INSERT INTO counters (kind, owner_id, value)
+    SELECT 'page_versions', page_id, count(*) FROM page_versions GROUP BY page_id;
+    INSERT INTO counters (kind, owner_id, value)
+    SELECT 'user_targets', user_id, count(*) FROM targets WHERE is_active GROUP BY user_id;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT fn_rebuild_counters();
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pg_trigger WHERE tgname LIKE 'trg_%_count_%';
+-- Expected: 8
+-- ============================================================================
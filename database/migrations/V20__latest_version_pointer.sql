@@ -0,0 +1,70 @@
+-- ============================================================================
+-- V20__latest_version_pointer.sql
+-- pages.latest_version_id/at, kept by triggers, replace the DISTINCT ON
+-- scan behind vw_latest_page_versions
+-- ============================================================================
+
+-- Both halves of the page_versions key, so the latest version is one
+-- primary key lookup in one partition
+ALTER TABLE pages ADD COLUMN latest_version_id UUID;
+ALTER TABLE pages ADD COLUMN latest_version_at TIMESTAMPTZ;
+
+-- Finds the pages pointing at versions that are being deleted
+CREATE INDEX idx_pages_latest_version ON pages(latest_version_id) WHERE latest_version_id IS NOT NULL;
+
+-- A new version becomes the latest unless a newer one is already recorded
+-- (versions of one page written concurrently can commit out of order).
+-- The update runs in the inserting statement, so the pointer never refers
+-- to an uncommitted or missing version.
+CREATE OR REPLACE FUNCTION fn_track_latest_version() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE pages p SET latest_version_id = n.id, latest_version_at = n.scraped_at
+        FROM (SELECT DISTINCT ON (page_id) page_id, id, scraped_at FROM new_rows
+              ORDER BY page_id, scraped_at DESC, id DESC) n
+        WHERE p.id = n.page_id
+          AND (p.latest_version_at IS NULL OR n.scraped_at >= p.latest_version_at);
+    ELSE
+        -- Retention never deletes a page's newest version, so this is rare
+        UPDATE pages p SET (latest_version_id, latest_version_at) = (
+            SELECT pv.id, pv.scraped_at FROM page_versions pv
+            WHERE pv.page_id = p.id
+            ORDER BY pv.scraped_at DESC, pv.id DESC
+            LIMIT 1)
+        WHERE p.latest_version_id IN (SELECT id FROM old_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_versions_latest_insert AFTER INSERT ON page_versions
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_track_latest_version();
+CREATE TRIGGER trg_versions_latest_delete AFTER DELETE ON page_versions
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_track_latest_version();
+
+-- Detaching a partition fires no triggers: the compactor repoints pages
+-- whose latest version was in an archived partition itself
+
+UPDATE pages p SET latest_version_id = l.id, latest_version_at = l.scraped_at
+FROM (SELECT DISTINCT ON (page_id) page_id, id, scraped_at FROM page_versions
+      ORDER BY page_id, scraped_at DESC, id DESC) l
+WHERE p.id = l.page_id;
+
+CREATE OR REPLACE VIEW vw_latest_page_versions AS
+SELECT
+    pv.id AS version_id,
+    pv.page_id,
+    p.url,
+    p.target_id,
+    pv.content_hash,
+    pv.http_status,
+    pv.scraped_at
+FROM pages p
+JOIN page_versions pv ON pv.id = p.latest_version_id AND pv.scraped_at = p.latest_version_at;
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pages p
+--            WHERE EXISTS (SELECT 1 FROM page_versions pv WHERE pv.page_id = p.id)
+--              AND p.latest_version_id IS NULL;
+-- Expected: 0
+-- ============================================================================
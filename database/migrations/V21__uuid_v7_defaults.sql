@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V21__uuid_v7_defaults.sql
+-- Time-ordered UUIDv7 defaults for the write-heavy tables
+-- ============================================================================
+-- The application generates v7 ids itself (UuidV7 in the domain layer);
+-- these defaults cover rows inserted without an id, so that all new keys
+-- land at the right edge of the primary key indexes.
+
+-- RFC 9562 version 7: 48-bit Unix time in milliseconds, then random bits.
+-- Starts from a random v4 UUID, overwrites the first 6 bytes with the time
+-- and turns the version nibble from 4 into 7 (bits 52 and 53).
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+-- Recurses into the existing page_versions partitions
+ALTER TABLE page_versions ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE chunks ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE embeddings ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+-- ============================================================================
+-- Done when: SELECT substring(uuid_generate_v7()::TEXT FROM 15 FOR 1);
+-- Expected: 7
+-- ============================================================================
@@ -0,0 +1,38 @@
+-- ============================================================================
+-- V22__version_cleanup_trigger.sql
+-- Deleting page versions also deletes their chunks (and so their embeddings)
+-- and clears near_duplicate_of links to them
+-- ============================================================================
+
+-- V17 had to turn fk_chunks_version and the near_duplicate_of foreign key into
+-- plain references, because page_versions ids are only unique together with
+-- scraped_at. This trigger does what their ON DELETE actions did, for every
+-- delete path: retention, and cascades from deleted pages and targets.
+-- Embeddings still cascade from chunks through fk_embeddings_chunk.
+CREATE OR REPLACE FUNCTION fn_cleanup_deleted_versions() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM chunks WHERE page_version_id IN (SELECT id FROM old_rows);
+    UPDATE page_versions SET near_duplicate_of = NULL
+    WHERE near_duplicate_of IN (SELECT id FROM old_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_versions_cleanup_delete AFTER DELETE ON page_versions
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION fn_cleanup_deleted_versions();
+
+-- Detaching a partition fires no triggers: the compactor cleans up after
+-- archived partitions itself
+
+-- References already left dangling by deletes since V17
+DELETE FROM chunks c
+WHERE NOT EXISTS (SELECT 1 FROM page_versions pv WHERE pv.id = c.page_version_id);
+UPDATE page_versions v SET near_duplicate_of = NULL
+WHERE near_duplicate_of IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM page_versions pv WHERE pv.id = v.near_duplicate_of);
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM chunks c
+--            WHERE NOT EXISTS (SELECT 1 FROM page_versions pv WHERE pv.id = c.page_version_id);
+-- Expected: 0
+-- ============================================================================
@@ -0,0 +1,53 @@
+-- ============================================================================
+-- V23__page_lifetime_counts.sql
+-- pages.versions_recorded and pages.first_scraped_at: lifetime counts for the
+-- change-rate estimate that retention and archiving do not shrink
+-- ============================================================================
+
+-- scrape_count already covers the page's whole life. Counting and dating the
+-- stored versions instead undercounts changes once retention removes old
+-- versions, which made the estimate drift towards "never changes".
+ALTER TABLE pages ADD COLUMN versions_recorded INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE pages ADD COLUMN first_scraped_at TIMESTAMPTZ;
+
+-- Same pointer rule as V20; the insert branch now also counts the versions.
+-- One UPDATE per page keeps the count right when a statement inserts several
+-- versions of one page.
+CREATE OR REPLACE FUNCTION fn_track_latest_version() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE pages p
+        SET versions_recorded = p.versions_recorded + n.versions,
+            latest_version_id = CASE
+                WHEN p.latest_version_at IS NULL OR n.scraped_at >= p.latest_version_at THEN n.id
+                ELSE p.latest_version_id END,
+            latest_version_at = GREATEST(p.latest_version_at, n.scraped_at)
+        FROM (SELECT page_id, count(*) AS versions, max(scraped_at) AS scraped_at,
+                     (array_agg(id ORDER BY scraped_at DESC, id DESC))[1] AS id
+              FROM new_rows GROUP BY page_id) n
+        WHERE p.id = n.page_id;
+    ELSE
+        -- Retention keeps a page's newest version, so this follows page deletes
+        UPDATE pages p SET (latest_version_id, latest_version_at) = (
+            SELECT pv.id, pv.scraped_at FROM page_versions pv
+            WHERE pv.page_id = p.id
+            ORDER BY pv.scraped_at DESC, pv.id DESC
+            LIMIT 1)
+        WHERE p.latest_version_id IN (SELECT id FROM old_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Best available backfill: versions already removed by retention or
+-- archiving are not counted, and the first scrape is the oldest stored one
+UPDATE pages p SET versions_recorded = v.versions, first_scraped_at = v.first_scraped_at
+FROM (SELECT page_id, count(*) AS versions, min(scraped_at) AS first_scraped_at
+      FROM page_versions GROUP BY page_id) v
+WHERE p.id = v.page_id;
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM pages
+--            WHERE scrape_count > 0 AND (versions_recorded = 0 OR first_scraped_at IS NULL);
+-- Expected: 0
+-- ============================================================================
@@ -0,0 +1,18 @@
+-- ============================================================================
+-- V24__pages_unique_per_target.sql
+-- A URL is unique within its target, not across all targets
+-- ============================================================================
+
+-- With url_hash unique on its own, two users watching the same URL shared
+-- one page row: ingest silently skipped the second target's URL and the
+-- scrape upsert counted the second target's scrapes on the first target's
+-- page. The upserts now conflict on (target_id, url_hash).
+-- The constraint's index also serves lookups of a URL within a target.
+ALTER TABLE pages ADD CONSTRAINT uk_pages_target_url_hash UNIQUE (target_id, url_hash);
+ALTER TABLE pages DROP CONSTRAINT uk_pages_url_hash;
+
+-- ============================================================================
+-- Done when: SELECT conname FROM pg_constraint
+--            WHERE conrelid = 'pages'::regclass AND contype = 'u';
+-- Expected: uk_pages_target_url_hash
+-- ============================================================================
@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V25__archived_partitions.sql
+-- Records partitions the compactor archives, so the repair of what their
+-- detach left behind survives a crash and is retried
+-- ============================================================================
+
+-- Detaching a partition fires no delete triggers, so the compactor takes the
+-- archived versions off the counters (and does the other trigger work) itself.
+-- A partition is recorded here before it is detached. repaired_at is set in
+-- the same statement as the repair, so a repair happens exactly once however
+-- often the compactor stops part way.
+CREATE TABLE archived_partitions (
+    partition_name  TEXT PRIMARY KEY,
+    recorded_at     TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    repaired_at     TIMESTAMPTZ
+);
+
+-- Partitions already in the archive schema were repaired when they were archived
+INSERT INTO archived_partitions (partition_name, repaired_at)
+SELECT c.relname, CURRENT_TIMESTAMP
+FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+WHERE n.nspname = 'archive' AND c.relkind = 'r' AND c.relname ~ '^page_versions_\d{4}_\d{2}$';
+
+-- ============================================================================
+-- Done when: SELECT count(*) FROM archived_partitions WHERE repaired_at IS NULL;
+-- Expected: 0 (after each compactor run)
+-- ============================================================================
@@ -41,7 +41,7 @@ VALUES (
     '22222222-2222-2222-2222-222222222222',
     '33333333-3333-3333-3333-333333333333',
     'https://example.com/page1',
-    'abc123hash',
+    sha256(convert_to('https://example.com/page1', 'UTF8')),
     1
 );
 
@@ -52,7 +52,7 @@ VALUES (
     '44444444-4444-4444-4444-444444444444',
     '33333333-3333-3333-3333-333333333333',
     '<html><body><h1>Example</h1><p>This is test content.</p></body></html>',
-    'contenthash123',
+    sha256(convert_to('<html><body><h1>Example</h1><p>This is test content.</p></body></html>', 'UTF8')),
     200
 );
 